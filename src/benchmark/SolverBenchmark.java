@@ -0,0 +1,308 @@
+package src.benchmark;
+
+import src.dao.MazeDAO;
+import src.dao.daoImpl.MazeDAOFile;
+import src.generator.GeneratorRegistry;
+import src.generator.MazeGenerator;
+import src.generator.generatorImpl.MazeGeneratorBacktracker;
+import src.models.MazeGrid;
+import src.solver.MazeSolver;
+import src.solver.SolveProfiler;
+import src.solver.SolverRegistry;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+public class SolverBenchmark {
+    // Banco de pruebas de todos los MazeSolver registrados (solve y solveAndGetSteps).
+    // Sigue el esquema de JMH sin depender de él: iteraciones de calentamiento, iteraciones
+    // medidas de duración fija y un "sumidero" para que el JIT no elimine el trabajo.
+    // Reporta throughput (ops/s), tiempo medio (us/op) y asignación (bytes/op, n/a si la JVM no la mide).
+    //
+    // Uso: java src.benchmark.SolverBenchmark [--sizes 100,500] [--densities 0,0.2]
+    //      [--topologies OPEN,PERFECT,SERPENTINE] [--solvers BFS,DFS] [--warmup 3]
+    //      [--iterations 5] [--iteration-ms 500] [--seed 42] [--mazes a.maze,b.maze]
+    //      [--generators Kruskal,Prim,Eller]
+    // Con --mazes se miden los laberintos guardados (formato .maze) en lugar de los generados.
+    // Con --generators se usan los generadores de GeneratorRegistry en lugar de las topologías.
+    // SOLVE y SOLVE_AND_GET_STEPS miden siempre una búsqueda completa (a los solvers incrementales
+    // se les llama reset() antes de cada operación). RESOLVE_AFTER_EDIT alterna paredes antes de
+    // cada operación (una celda al azar, y en la siguiente se restaura) sobre una copia del
+    // laberinto, con la misma secuencia para todos los solvers: mide volver a resolver después de
+    // editar una sola celda, donde un solver incremental reutiliza su búsqueda anterior.
+    // Ejecutar con -Xss grande no es necesario: los solvers recursivos usan pila explícita.
+
+    public enum Topology {
+        OPEN,       // Paredes aleatorias según la densidad
+        PERFECT,    // Laberinto perfecto (un único camino entre dos celdas)
+        SERPENTINE  // Un solo pasillo que recorre todas las filas (peor caso para recursión)
+    }
+
+    public enum Operation {
+        SOLVE,
+        SOLVE_AND_GET_STEPS,
+        RESOLVE_AFTER_EDIT
+    }
+
+    // Semilla de la secuencia de ediciones de RESOLVE_AFTER_EDIT (la misma para todos los solvers)
+    private static final long EDIT_SEED = 7;
+
+    // Evita que el JIT descarte los resultados de los solvers (volatile y público: no se puede
+    // demostrar que nadie lo lee)
+    public static volatile long sink;
+
+    public static void main(String[] args) {
+        int[] sizes = {100, 500};
+        double[] densities = {0.0, 0.2};
+        List<Topology> topologies = Arrays.asList(Topology.values());
+        List<String> solverNames = SolverRegistry.getNames();
+        int warmup = 3;
+        int iterations = 5;
+        long iterationMillis = 500;
+        long seed = 42;
+        List<String> mazeFiles = new ArrayList<>();
+        List<String> generatorNames = new ArrayList<>();
+
+        for (int i = 0; i < args.length; i += 2) {
+            if (i + 1 >= args.length) {
+                System.err.println("Falta el valor de la opción: " + args[i]);
+                break;
+            }
+            String value = args[i + 1];
+            switch (args[i]) {
+                case "--sizes":
+                    sizes = Arrays.stream(value.split(",")).mapToInt(Integer::parseInt).toArray();
+                    break;
+                case "--densities":
+                    densities = Arrays.stream(value.split(",")).mapToDouble(Double::parseDouble).toArray();
+                    break;
+                case "--topologies":
+                    topologies = new ArrayList<>();
+                    for (String name : value.split(",")) topologies.add(Topology.valueOf(name.trim().toUpperCase()));
+                    break;
+                case "--solvers":
+                    solverNames = Arrays.asList(value.split(","));
+                    break;
+                case "--warmup":
+                    warmup = Integer.parseInt(value);
+                    break;
+                case "--iterations":
+                    iterations = Integer.parseInt(value);
+                    break;
+                case "--iteration-ms":
+                    iterationMillis = Long.parseLong(value);
+                    break;
+                case "--seed":
+                    seed = Long.parseLong(value);
+                    break;
+                case "--mazes":
+                    mazeFiles = Arrays.asList(value.split(","));
+                    break;
+                case "--generators":
+                    generatorNames = Arrays.asList(value.split(","));
+                    break;
+                default:
+                    System.err.println("Opción desconocida: " + args[i]);
+            }
+        }
+
+        System.out.println(String.format(Locale.ROOT, "%-22s %-20s %-10s %6s %7s %12s %12s %14s",
+                "Algoritmo", "Operación", "Topología", "Tamaño", "Densid.", "ops/s", "us/op", "bytes/op"));
+
+        if (!mazeFiles.isEmpty()) {
+            MazeDAO mazeDAO = new MazeDAOFile();
+            for (String file : mazeFiles) {
+                MazeGrid grid;
+                try {
+                    grid = mazeDAO.loadMaze(Paths.get(file.trim()));
+                } catch (IOException e) {
+                    System.err.println("Error al abrir " + file + ": " + e.getMessage());
+                    continue;
+                }
+                if (grid.getStart() == MazeGrid.NO_CELL || grid.getEnd() == MazeGrid.NO_CELL) {
+                    System.err.println("Laberinto sin inicio o fin: " + file);
+                    continue;
+                }
+                runSolvers(grid, solverNames, "ARCHIVO", Math.max(grid.getRows(), grid.getCols()),
+                        grid.getWallDensity(), warmup, iterations, iterationMillis);
+            }
+        } else if (!generatorNames.isEmpty()) {
+            for (String name : generatorNames) {
+                MazeGenerator generator = GeneratorRegistry.create(name.trim());
+                if (generator == null) {
+                    System.err.println("Generador no soportado: " + name);
+                    continue;
+                }
+                for (int size : sizes) {
+                    MazeGrid grid = generator.generate(size, size, seed);
+                    runSolvers(grid, solverNames, generator.getName(), size, grid.getWallDensity(),
+                            warmup, iterations, iterationMillis);
+                }
+            }
+        } else {
+            for (Topology topology : topologies) {
+                // La densidad solo tiene sentido para laberintos abiertos
+                double[] topologyDensities = topology == Topology.OPEN ? densities : new double[]{0.0};
+                for (int size : sizes) {
+                    for (double density : topologyDensities) {
+                        MazeGrid grid = buildMaze(topology, size, density, seed);
+                        runSolvers(grid, solverNames, topology.name(), size, density, warmup, iterations, iterationMillis);
+                    }
+                }
+            }
+        }
+    }
+
+    private static void runSolvers(MazeGrid grid, List<String> solverNames, String label, int size, double density,
+                                   int warmup, int iterations, long iterationMillis) {
+        for (String name : solverNames) {
+            MazeSolver solver = SolverRegistry.create(name.trim());
+            if (solver == null) {
+                System.err.println("Algoritmo no soportado: " + name);
+                continue;
+            }
+            for (Operation operation : Operation.values()) {
+                Measurement m = measure(solver, operation, grid, warmup, iterations, iterationMillis);
+                // Sin medición de asignación por hilo en esta JVM la columna queda en n/a
+                String bytes = Double.isNaN(m.bytesPerOp) ? "n/a" : String.format(Locale.ROOT, "%.0f", m.bytesPerOp);
+                System.out.println(String.format(Locale.ROOT, "%-22s %-20s %-10s %6d %7.2f %12.1f %12.2f %14s",
+                        solver.getName(), operation, label, size, density,
+                        m.opsPerSecond, m.microsPerOp, bytes));
+            }
+        }
+    }
+
+    public static Measurement measure(MazeSolver solver, Operation operation, MazeGrid grid,
+                                      int warmup, int iterations, long iterationMillis) {
+        solver.reset();
+        WallEdits edits = null;
+        if (operation == Operation.RESOLVE_AFTER_EDIT) {
+            grid = grid.copy(); // Las ediciones no tocan el laberinto que comparten los demás solvers
+            edits = new WallEdits(grid, EDIT_SEED);
+            // Primera búsqueda completa fuera de la medición: desde acá cada operación es una reparación
+            solver.solve(grid, grid.rowOf(grid.getStart()), grid.colOf(grid.getStart()),
+                    grid.rowOf(grid.getEnd()), grid.colOf(grid.getEnd()));
+        }
+        for (int i = 0; i < warmup; i++) {
+            runIteration(solver, operation, grid, edits, iterationMillis);
+        }
+        long threadId = Thread.currentThread().getId();
+        long totalOps = 0;
+        long totalNanos = 0;
+        long totalBytes = 0;
+        for (int i = 0; i < iterations; i++) {
+            long bytesBefore = SolveProfiler.allocatedBytes(threadId);
+            long begin = System.nanoTime();
+            long ops = runIteration(solver, operation, grid, edits, iterationMillis);
+            totalNanos += System.nanoTime() - begin;
+            totalBytes += SolveProfiler.allocatedBytes(threadId) - bytesBefore;
+            totalOps += ops;
+        }
+        double bytesPerOp = SolveProfiler.allocatedBytes(threadId) < 0 ? Double.NaN : (double) totalBytes / totalOps;
+        return new Measurement(totalOps * 1e9 / totalNanos, totalNanos / 1e3 / totalOps, bytesPerOp);
+    }
+
+    private static long runIteration(MazeSolver solver, Operation operation, MazeGrid grid, WallEdits edits,
+                                     long iterationMillis) {
+        int start = grid.getStart();
+        int end = grid.getEnd();
+        int cols = grid.getCols();
+        long deadline = System.nanoTime() + iterationMillis * 1_000_000L;
+        long ops = 0;
+        do {
+            switch (operation) {
+                case SOLVE:
+                    solver.reset();
+                    sink += solver.solve(grid, start / cols, start % cols, end / cols, end % cols).size();
+                    break;
+                case SOLVE_AND_GET_STEPS:
+                    solver.reset();
+                    sink += solver.solveAndGetSteps(grid, start / cols, start % cols, end / cols, end % cols).size();
+                    break;
+                default:
+                    edits.next();
+                    sink += solver.solve(grid, start / cols, start % cols, end / cols, end % cols).size();
+                    break;
+            }
+            ops++;
+        } while (System.nanoTime() < deadline);
+        return ops;
+    }
+
+    // Secuencia determinista de ediciones: una operación alterna una celda al azar (nunca START
+    // ni END) y la siguiente la deja como estaba, así el laberinto no se aleja del original
+    private static class WallEdits {
+        private final MazeGrid grid;
+        private final Random random;
+        private int pending = MazeGrid.NO_CELL; // Celda alternada que falta restaurar
+
+        WallEdits(MazeGrid grid, long seed) {
+            this.grid = grid;
+            this.random = new Random(seed);
+        }
+
+        void next() {
+            int cell = pending;
+            if (cell == MazeGrid.NO_CELL) {
+                do {
+                    cell = random.nextInt(grid.size());
+                } while (cell == grid.getStart() || cell == grid.getEnd());
+                pending = cell;
+            } else {
+                pending = MazeGrid.NO_CELL;
+            }
+            grid.setWall(cell, !grid.isWall(cell));
+        }
+    }
+
+    // Construye el laberinto de prueba; START es la primera celda libre y END la última
+    public static MazeGrid buildMaze(Topology topology, int size, double density, long seed) {
+        MazeGrid grid = topology == Topology.PERFECT
+                ? new MazeGeneratorBacktracker().generate(size, size, seed)
+                : new MazeGrid(size, size);
+        switch (topology) {
+            case OPEN:
+                Random random = new Random(seed);
+                for (int i = 0; i < grid.size(); i++) {
+                    grid.setWall(i, random.nextDouble() < density);
+                }
+                grid.setWall(0, false);
+                grid.setWall(grid.size() - 1, false);
+                break;
+            case PERFECT:
+                break; // Ya generado con el backtracker
+            case SERPENTINE:
+                for (int r = 1; r < size; r += 2) {
+                    for (int c = 0; c < size; c++) {
+                        grid.setWall(r, c, true);
+                    }
+                    grid.setWall(r, (r / 2) % 2 == 0 ? size - 1 : 0, false);
+                }
+                break;
+        }
+        int first = 0;
+        while (first < grid.size() && grid.isWall(first)) first++;
+        int last = grid.size() - 1;
+        while (last > 0 && grid.isWall(last)) last--;
+        grid.setStart(first);
+        grid.setEnd(last);
+        return grid;
+    }
+
+    public static class Measurement {
+        public final double opsPerSecond;
+        public final double microsPerOp;
+        public final double bytesPerOp;
+
+        Measurement(double opsPerSecond, double microsPerOp, double bytesPerOp) {
+            this.opsPerSecond = opsPerSecond;
+            this.microsPerOp = microsPerOp;
+            this.bytesPerOp = bytesPerOp;
+        }
+    }
+}
@@ -1,20 +1,36 @@
 package src.controllers;
 
+import src.dao.MazeDAO;
+import src.dao.daoImpl.MazeDAOFile;
+import src.generator.GeneratorRegistry;
+import src.generator.MazeGenerator;
 import src.models.Cell;
-import src.models.CellState;
+import src.models.ExplorationTrace;
+import src.models.AlgorithmResult;
+import src.models.MazeGrid;
+import src.models.MazeSolution;
+import src.models.SolveResults;
 import src.solver.MazeSolver;
-import src.solver.solverImpl.MazeSolverBFS;
-import src.solver.solverImpl.MazeSolverDFS;
-import src.solver.solverImpl.MazeSolverRecursivo;
-import src.solver.solverImpl.MazeSolverRecursivoCompleto;
-import src.solver.solverImpl.MazeSolverRecursivoCompletoBT;
+import src.solver.SolveMonitor;
+import src.solver.SolveProfiler;
+import src.solver.SolverRegistry;
 import src.views.MazePanel;
 import src.views.ResultadosDialog;
 
 import javax.swing.*;
+import java.io.File;
+import java.io.IOException;
 import java.util.List;
 import java.util.ArrayList;
-import java.util.Objects;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 public class MazeController {
 
@@ -22,43 +38,38 @@ public class MazeController {
     private JFrame parentFrame;
 
     // Estos atributos son públicos para que MazeFrame pueda verificar su estado
-    public List<Cell> currentAlgorithmVisitedSteps; // Usado para la animación de exploración (gris)
+    public ExplorationTrace currentAlgorithmTrace; // Traza compacta para la animación de exploración (gris)
     public List<Cell> currentAlgorithmFinalPath;   // Usado para el camino final (azul)
     public int currentStepIndex;
 
-    private Timer animationTimer; // Un solo Timer para ambas animaciones automáticas/semi-automáticas
+    private final PlaybackEngine playback; // Reproducción de la exploración (automática y paso a paso)
+    private final Map<String, MazeSolver> solverInstances = new HashMap<>();
+    private SolveTask solveTask; // Búsqueda en segundo plano en curso (null si no hay)
+    private static ExecutorService raceExecutor; // Hilos del modo "Comparar todos"
+    private RaceTask raceTask; // Comparación "Comparar todos" en curso (null si no hay)
+    private Consumer<Boolean> raceListener = running -> { };
+    private Consumer<String> statusListener = status -> { };
+    private final MazeDAO mazeDAO = new MazeDAOFile();
+    // Soluciones ya calculadas: resolver de nuevo el mismo laberinto sin cambios es instantáneo
+    private final SolveCache solveCache = new SolveCache();
 
     public MazeController(MazePanel mazePanel, JFrame parentFrame) {
         this.mazePanel = mazePanel;
         this.parentFrame = parentFrame;
+        this.playback = new PlaybackEngine(mazePanel);
+        playback.setPositionListener(position -> currentStepIndex = position);
     }
 
     // Método para la resolución automática y animación completa (Botón "Resolver")
     // Ahora funciona como una versión automática del "Paso a paso"
     public void solveMazeAutomatically(String algorithmName) {
-        // Asegúrate de detener cualquier animación previa si está corriendo
-        if (animationTimer != null && animationTimer.isRunning()) {
-            animationTimer.stop();
-        }
+        // resetSimulationState() también detiene cualquier animación previa
         resetSimulationState(); // Limpiar el estado de simulación anterior
 
-        Cell[][] mazeData = mazePanel.getMazeData();
-
-        int startRow = -1, startCol = -1;
-        int endRow = -1, endCol = -1;
-        for (int r = 0; r < mazeData.length; r++) {
-            for (int c = 0; c < mazeData[0].length; c++) {
-                if (mazeData[r][c].getState() == CellState.START) {
-                    startRow = r;
-                    startCol = c;
-                } else if (mazeData[r][c].getState() == CellState.END) {
-                    endRow = r;
-                    endCol = c;
-                }
-            }
-        }
+        // Instantánea compacta del laberinto: el hilo de fondo nunca toca el grid del panel
+        MazeGrid mazeGrid = mazePanel.getMazeGrid();
 
-        if (startRow == -1 || endRow == -1) {
+        if (mazeGrid.getStart() == MazeGrid.NO_CELL || mazeGrid.getEnd() == MazeGrid.NO_CELL) {
             JOptionPane.showMessageDialog(parentFrame, "Debe establecer el punto de inicio y fin del laberinto.", "Error de Solución", JOptionPane.ERROR_MESSAGE);
             return;
         }
@@ -71,67 +82,45 @@ public class MazeController {
 
         mazePanel.resetPathAndVisitedStates(); // Limpiar cualquier rastro de caminos o visitas anteriores
 
-        // Obtener la lista COMPLETA de pasos de exploración Y el camino final
-        currentAlgorithmVisitedSteps = solver.solveAndGetSteps(mazeData, startRow, startCol, endRow, endCol);
-        currentAlgorithmFinalPath = solver.solve(mazeData, startRow, startCol, endRow, endCol);
+        // La búsqueda corre en segundo plano; la animación arranca cuando termina
+        solveInBackground(solver, mazeGrid, this::startAutomaticAnimation);
+    }
+
+    private void startAutomaticAnimation(MazeSolution solution) {
+        // Obtener la lista COMPLETA de pasos de exploración Y el camino final en una sola búsqueda
+        currentAlgorithmTrace = solution.getTrace();
+        currentAlgorithmFinalPath = solution.getPath();
 
         currentStepIndex = 0;
 
-        if (currentAlgorithmVisitedSteps.isEmpty()) {
+        if (showPathWithoutSteps(solution)) {
+            return;
+        }
+        if (currentAlgorithmTrace.getExplorationLength() == 0) {
             JOptionPane.showMessageDialog(parentFrame, "No se encontró un camino o no hay pasos para mostrar.", "Sin Solución", JOptionPane.INFORMATION_MESSAGE);
             currentAlgorithmFinalPath = null;
             return;
         }
 
-        // Iniciar el Timer para la animación automática paso a paso
-        animationTimer = new Timer(100, e -> { // Velocidad de la animación (ej. 100ms por celda)
-            if (currentStepIndex < currentAlgorithmVisitedSteps.size()) {
-                Cell stepCell = currentAlgorithmVisitedSteps.get(currentStepIndex);
-
-                // La lógica de pintado es la misma que en advanceStep()
-                if (isCellInPath(stepCell, currentAlgorithmFinalPath) && stepCell.getState() != CellState.START && stepCell.getState() != CellState.END) {
-                    mazePanel.updateCellState(stepCell.getRow(), stepCell.getCol(), CellState.PATH); // Azul si es parte del camino
-                } else if (stepCell.getState() != CellState.START && stepCell.getState() != CellState.END) {
-                    mazePanel.updateCellState(stepCell.getRow(), stepCell.getCol(), CellState.VISITED); // Gris si es solo visitado
-                }
-                currentStepIndex++;
-            } else {
-                animationTimer.stop();
-                mazePanel.drawPath(currentAlgorithmFinalPath); // Asegurar que el camino final esté completamente en azul
-                JOptionPane.showMessageDialog(parentFrame, "Resolución automática completada.", "Fin de Resolución", JOptionPane.INFORMATION_MESSAGE);
-                resetSimulationState(); // Limpiar el estado después de la animación
-            }
+        // Reproducción automática a la velocidad elegida; al terminar se pinta el camino final
+        playback.load(currentAlgorithmTrace, () -> {
+            JOptionPane.showMessageDialog(parentFrame, "Resolución automática completada.", "Fin de Resolución", JOptionPane.INFORMATION_MESSAGE);
+            resetSimulationState(); // Limpiar el estado después de la animación
         });
-        animationTimer.start();
+        playback.play();
     }
 
 
     // Método para iniciar la preparación para el paso a paso manual (Botón "Paso a paso")
     // Este método solo prepara los datos, no inicia un Timer.
     public void prepareStepByStep(String algorithmName) {
-        // Asegúrate de detener cualquier animación automática en curso
-        if (animationTimer != null && animationTimer.isRunning()) {
-            animationTimer.stop();
-        }
+        // resetSimulationState() también detiene cualquier animación automática en curso
         resetSimulationState(); // Limpiar el estado de simulación anterior
 
-        Cell[][] mazeData = mazePanel.getMazeData();
-
-        int startRow = -1, startCol = -1;
-        int endRow = -1, endCol = -1;
-        for (int r = 0; r < mazeData.length; r++) {
-            for (int c = 0; c < mazeData[0].length; c++) {
-                if (mazeData[r][c].getState() == CellState.START) {
-                    startRow = r;
-                    startCol = c;
-                } else if (mazeData[r][c].getState() == CellState.END) {
-                    endRow = r;
-                    endCol = c;
-                }
-            }
-        }
+        // Instantánea compacta del laberinto: el hilo de fondo nunca toca el grid del panel
+        MazeGrid mazeGrid = mazePanel.getMazeGrid();
 
-        if (startRow == -1 || endRow == -1) {
+        if (mazeGrid.getStart() == MazeGrid.NO_CELL || mazeGrid.getEnd() == MazeGrid.NO_CELL) {
             JOptionPane.showMessageDialog(parentFrame, "Debe establecer el punto de inicio y fin del laberinto.", "Error de Solución", JOptionPane.ERROR_MESSAGE);
             return;
         }
@@ -144,74 +133,357 @@ public class MazeController {
 
         mazePanel.resetPathAndVisitedStates(); // Limpiar cualquier rastro de caminos o visitas anteriores
 
-        // Obtener la lista COMPLETA de pasos de exploración Y el camino final
-        currentAlgorithmVisitedSteps = solver.solveAndGetSteps(mazeData, startRow, startCol, endRow, endCol);
-        currentAlgorithmFinalPath = solver.solve(mazeData, startRow, startCol, endRow, endCol);
+        solveInBackground(solver, mazeGrid, this::finishStepByStepPreparation);
+    }
+
+    private void finishStepByStepPreparation(MazeSolution solution) {
+        // Obtener la lista COMPLETA de pasos de exploración Y el camino final en una sola búsqueda
+        currentAlgorithmTrace = solution.getTrace();
+        currentAlgorithmFinalPath = solution.getPath();
 
         currentStepIndex = 0; // Reiniciar índice para el paso a paso
-        if (currentAlgorithmVisitedSteps.isEmpty()) {
+        if (showPathWithoutSteps(solution)) {
+            return;
+        }
+        if (currentAlgorithmTrace.getExplorationLength() == 0) {
             JOptionPane.showMessageDialog(parentFrame, "No hay pasos para mostrar para este laberinto.", "Sin Pasos", JOptionPane.INFORMATION_MESSAGE);
             currentAlgorithmFinalPath = null;
             return;
         }
+        // La reproducción queda en pausa: cada clic avanza un paso
+        playback.load(currentAlgorithmTrace, () -> {
+            JOptionPane.showMessageDialog(parentFrame, "Simulación paso a paso completada. Camino final resaltado.", "Fin de Simulación", JOptionPane.INFORMATION_MESSAGE);
+            resetSimulationState(); // Limpiar el estado después de que la simulación manual ha terminado
+        });
         JOptionPane.showMessageDialog(parentFrame, "Listo para simulación paso a paso. Haga clic en 'Paso a paso' para avanzar.", "Paso a Paso", JOptionPane.INFORMATION_MESSAGE);
     }
 
+    // Un solver incremental (LPA*) puede no tener pasos nuevos si el cambio no afectó su búsqueda:
+    // el camino se pinta directamente en lugar de reproducir una exploración vacía
+    private boolean showPathWithoutSteps(MazeSolution solution) {
+        if (solution.getTrace().getExplorationLength() > 0 || solution.getPath().isEmpty()) {
+            return false;
+        }
+        mazePanel.drawPath(solution.getPath());
+        statusListener.accept(String.format("%s: sin pasos nuevos, camino de %d celdas",
+                solution.getAlgorithmName(), solution.getPath().size()));
+        currentAlgorithmTrace = null;
+        currentAlgorithmFinalPath = null;
+        return true;
+    }
+
     // Método para avanzar un paso en la simulación manual (Cada clic en "Paso a paso")
     public void advanceStep() {
-        if (currentAlgorithmVisitedSteps == null || currentStepIndex >= currentAlgorithmVisitedSteps.size()) {
+        if (currentAlgorithmTrace == null || currentStepIndex >= currentAlgorithmTrace.getExplorationLength()) {
             JOptionPane.showMessageDialog(parentFrame, "Simulación paso a paso completada. El camino final ya está resaltado o no hay pasos para iniciar. Presione 'Resolver' o 'Limpiar' para iniciar una nueva.", "Fin de Pasos", JOptionPane.INFORMATION_MESSAGE);
             return;
         }
 
-        Cell stepCell = currentAlgorithmVisitedSteps.get(currentStepIndex);
+        // La lógica de pintado es la misma que en la reproducción automática. Al llegar al último paso
+        // el motor pinta el camino final completo en azul y avisa el fin de la simulación.
+        playback.pause();
+        playback.stepForward(1);
+    }
 
-        // La lógica de pintado es la misma que en solveMazeAutomatically()
-        if (isCellInPath(stepCell, currentAlgorithmFinalPath) && stepCell.getState() != CellState.START && stepCell.getState() != CellState.END) {
-            mazePanel.updateCellState(stepCell.getRow(), stepCell.getCol(), CellState.PATH); // Azul si es parte del camino
-        } else if (stepCell.getState() != CellState.START && stepCell.getState() != CellState.END) {
-            mazePanel.updateCellState(stepCell.getRow(), stepCell.getCol(), CellState.VISITED); // Gris si es solo visitado
-        }
-        currentStepIndex++;
+    // --- Controles de reproducción ---
 
-        // Si es el último paso o se llega al final de los pasos de exploración,
-        // entonces mostramos el camino final completo en azul.
-        if (currentStepIndex == currentAlgorithmVisitedSteps.size()) {
-            mazePanel.drawPath(currentAlgorithmFinalPath); // Asegura que el camino final esté completamente azul
-            JOptionPane.showMessageDialog(parentFrame, "Simulación paso a paso completada. Camino final resaltado.", "Fin de Simulación", JOptionPane.INFORMATION_MESSAGE);
-            resetSimulationState(); // Limpiar el estado después de que la simulación manual ha terminado
+    public void togglePlayback() {
+        if (playback.isPlaying()) {
+            playback.pause();
+        } else {
+            playback.play();
         }
     }
 
+    public boolean isPlaying() {
+        return playback.isPlaying();
+    }
+
+    public void jumpToEnd() {
+        playback.jumpToEnd();
+    }
+
+    // Posición relativa (0..1) dentro de la exploración cargada
+    public void seekPlayback(double fraction) {
+        playback.seek((int) Math.round(fraction * playback.getLength()));
+    }
+
+    public void setPlaybackSpeed(int stepsPerSecond) {
+        playback.setSpeed(stepsPerSecond);
+    }
+
+    // Avisa la posición actual y el total de pasos cada vez que avanza la reproducción
+    public void setPlaybackListener(BiConsumer<Integer, Integer> listener) {
+        playback.setPositionListener(position -> {
+            currentStepIndex = position;
+            listener.accept(position, playback.getLength());
+        });
+    }
+
     // Método para resetear el estado interno del controlador
     public void resetSimulationState() {
-        if (animationTimer != null && animationTimer.isRunning()) {
-            animationTimer.stop();
-        }
-        currentAlgorithmVisitedSteps = null;
+        cancelSolve();
+        playback.stop();
+        currentAlgorithmTrace = null;
         currentAlgorithmFinalPath = null;
         currentStepIndex = 0;
         mazePanel.resetPathAndVisitedStates(); // Limpiar la UI también
     }
 
 
+    // Modo carrera (Botón "Comparar todos"): ejecuta todos los algoritmos registrados en paralelo
+    // sobre la misma instantánea de solo lectura y muestra la tabla de resultados
+    public void compareAllAlgorithms() {
+        MazeGrid mazeGrid = mazePanel.getMazeGrid();
+        if (mazeGrid.getStart() == MazeGrid.NO_CELL || mazeGrid.getEnd() == MazeGrid.NO_CELL) {
+            JOptionPane.showMessageDialog(parentFrame, "Debe establecer el punto de inicio y fin del laberinto.", "Error de Solución", JOptionPane.ERROR_MESSAGE);
+            return;
+        }
+        if (raceTask != null) {
+            return; // Ya hay una comparación en curso (el botón está deshabilitado)
+        }
+        raceTask = new RaceTask(mazeGrid);
+        raceListener.accept(true);
+        statusListener.accept("Comparando " + raceTask.tasks.size() + " algoritmos en paralelo...");
+        raceTask.execute();
+    }
+
+    public boolean isRacing() {
+        return raceTask != null;
+    }
+
+    // Se avisa true al empezar una comparación y false al terminar o cancelarse (para el botón)
+    public void setRaceListener(Consumer<Boolean> raceListener) {
+        this.raceListener = raceListener != null ? raceListener : running -> { };
+    }
+
+    private void cancelRace() {
+        if (raceTask == null) {
+            return;
+        }
+        RaceTask task = raceTask;
+        raceTask = null;
+        task.cancel(false); // Los solvers lo notan en su próximo punto de control
+        raceListener.accept(false);
+        statusListener.accept("Comparación cancelada.");
+    }
+
+    // Corre todos los algoritmos en el pool de carrera; también hace de monitor de los solvers
+    // para que una cancelación los detenga en su próximo punto de control
+    private class RaceTask extends SwingWorker<SolveResults, Void> implements SolveMonitor {
+        private final List<Callable<AlgorithmResult>> tasks = new ArrayList<>();
+        private long wallNanos;
+
+        RaceTask(MazeGrid mazeGrid) {
+            int cols = mazeGrid.getCols();
+            int start = mazeGrid.getStart();
+            int end = mazeGrid.getEnd();
+            for (String name : SolverRegistry.getNames()) {
+                tasks.add(() -> {
+                    // Instancias nuevas: cada hilo usa sus propias estructuras de búsqueda
+                    MazeSolver solver = SolverRegistry.create(name);
+                    solver.setMonitor(this);
+                    return SolveProfiler.measure(solver, mazeGrid, start / cols, start % cols, end / cols, end % cols);
+                });
+            }
+        }
+
+        @Override
+        protected SolveResults doInBackground() throws Exception {
+            long begin = System.nanoTime();
+            SolveResults results = new SolveResults();
+            for (Future<AlgorithmResult> future : getRaceExecutor().invokeAll(tasks)) {
+                results.addResult(future.get());
+            }
+            wallNanos = System.nanoTime() - begin;
+            return results;
+        }
+
+        @Override
+        public void progress(long nodesExpanded) {
+        }
+
+        @Override
+        protected void done() {
+            if (raceTask != this || isCancelled()) {
+                return; // Comparación cancelada
+            }
+            raceTask = null;
+            raceListener.accept(false);
+            try {
+                SolveResults results = get();
+                statusListener.accept(String.format("Comparación completada en %.2f ms.", wallNanos / 1e6));
+                new ResultadosDialog(parentFrame, "Comparación de algoritmos", results).setVisible(true);
+            } catch (InterruptedException | ExecutionException e) {
+                statusListener.accept("Error al comparar.");
+                JOptionPane.showMessageDialog(parentFrame, "Error al comparar los algoritmos: " + e.getCause(), "Error de Solución", JOptionPane.ERROR_MESSAGE);
+            }
+        }
+    }
+
+    // Un hilo por núcleo, creado al primer uso; hilos daemon para no impedir el cierre de la aplicación
+    private static synchronized ExecutorService getRaceExecutor() {
+        if (raceExecutor == null) {
+            raceExecutor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), runnable -> {
+                Thread thread = new Thread(runnable, "maze-race");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return raceExecutor;
+    }
+
+    // --- Archivos de laberinto (formato binario .maze) ---
+
+    public void saveMaze(File file) {
+        try {
+            mazeDAO.saveMaze(mazePanel.getMazeGrid(), file.toPath());
+            statusListener.accept("Laberinto guardado en " + file.getName());
+        } catch (IOException e) {
+            JOptionPane.showMessageDialog(parentFrame, "Error al guardar el laberinto: " + e.getMessage(), "Error de Archivo", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
+    public void loadMaze(File file) {
+        resetSimulationState();
+        try {
+            long begin = System.nanoTime();
+            MazeGrid grid = mazeDAO.loadMaze(file.toPath());
+            long mapped = System.nanoTime();
+            mazePanel.loadGrid(grid);
+            long loaded = System.nanoTime();
+            statusListener.accept(String.format("%s: %dx%d, mapeado en %.2f ms, mostrado en %.2f ms",
+                    file.getName(), grid.getRows(), grid.getCols(), (mapped - begin) / 1e6, (loaded - mapped) / 1e6));
+        } catch (IOException | IllegalArgumentException e) {
+            JOptionPane.showMessageDialog(parentFrame, "Error al abrir el laberinto: " + e.getMessage(), "Error de Archivo", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
+    // Reemplaza el laberinto del panel por uno generado del mismo tamaño
+    public void generateMaze(String generatorName, long seed) {
+        MazeGenerator generator = GeneratorRegistry.create(generatorName);
+        if (generator == null) {
+            JOptionPane.showMessageDialog(parentFrame, "Generador no soportado: " + generatorName, "Error de Generación", JOptionPane.ERROR_MESSAGE);
+            return;
+        }
+        resetSimulationState();
+        long begin = System.nanoTime();
+        MazeGrid grid = generator.generate(mazePanel.getNumRows(), mazePanel.getNumCols(), seed);
+        mazePanel.loadGrid(grid);
+        statusListener.accept(String.format("Laberinto %s (semilla %d) generado en %.2f ms",
+                generator.getName(), seed, (System.nanoTime() - begin) / 1e6));
+    }
+
+    public boolean isSolving() {
+        return solveTask != null;
+    }
+
+    // Cancela de forma cooperativa la búsqueda en segundo plano (si hay una)
+    public void cancelSolve() {
+        cancelRace();
+        if (solveTask == null) {
+            return;
+        }
+        SolveTask task = solveTask;
+        solveTask = null;
+        task.cancel(false);
+        // El solver puede seguir ocupado hasta que note la cancelación: no se reutiliza
+        solverInstances.values().remove(task.solver);
+        statusListener.accept("Búsqueda cancelada.");
+    }
+
+    public void setStatusListener(Consumer<String> statusListener) {
+        this.statusListener = statusListener != null ? statusListener : status -> { };
+    }
+
+    private void solveInBackground(MazeSolver solver, MazeGrid mazeGrid, Consumer<MazeSolution> onSolved) {
+        cancelSolve();
+        long fingerprint = mazePanel.getWallFingerprint();
+        MazeSolution cached = solveCache.get(solver.getName(), mazeGrid, fingerprint);
+        if (cached != null) {
+            statusListener.accept(String.format("%s: %d nodos, camino de %d celdas (desde caché)",
+                    cached.getAlgorithmName(), cached.getNodesExpanded(), cached.getPath().size()));
+            onSolved.accept(cached);
+            return;
+        }
+        solveTask = new SolveTask(solver, mazeGrid, fingerprint, onSolved);
+        statusListener.accept("Resolviendo con " + solver.getName() + "...");
+        solveTask.execute();
+    }
+
+    // Búsqueda fuera del hilo de eventos de Swing. También hace de monitor del solver:
+    // publica el progreso y expone isCancelled() para la cancelación cooperativa.
+    private class SolveTask extends SwingWorker<MazeSolution, Long> implements SolveMonitor {
+        private final MazeSolver solver;
+        private final MazeGrid mazeGrid;
+        private final long wallFingerprint; // Huella de las paredes al tomar la instantánea
+        private final Consumer<MazeSolution> onSolved;
+
+        SolveTask(MazeSolver solver, MazeGrid mazeGrid, long wallFingerprint, Consumer<MazeSolution> onSolved) {
+            this.solver = solver;
+            this.mazeGrid = mazeGrid;
+            this.wallFingerprint = wallFingerprint;
+            this.onSolved = onSolved;
+        }
+
+        @Override
+        protected MazeSolution doInBackground() {
+            int cols = mazeGrid.getCols();
+            int start = mazeGrid.getStart();
+            int end = mazeGrid.getEnd();
+            solver.setMonitor(this);
+            try {
+                // Traza compacta: 5 bytes por paso en lugar de un Cell por paso
+                return solver.solveTrace(mazeGrid, start / cols, start % cols, end / cols, end % cols);
+            } finally {
+                solver.setMonitor(SolveMonitor.NONE);
+            }
+        }
+
+        @Override
+        public void progress(long nodesExpanded) {
+            publish(nodesExpanded);
+        }
+
+        @Override
+        protected void process(List<Long> chunks) {
+            if (solveTask == this) {
+                statusListener.accept("Resolviendo con " + solver.getName() + ": "
+                        + chunks.get(chunks.size() - 1) + " nodos expandidos...");
+            }
+        }
+
+        @Override
+        protected void done() {
+            if (solveTask != this || isCancelled()) {
+                return; // Búsqueda cancelada o reemplazada por otra
+            }
+            solveTask = null;
+            try {
+                MazeSolution solution = get();
+                solveCache.put(solver.getName(), mazeGrid, wallFingerprint, solution);
+                statusListener.accept(String.format("%s: %d nodos, camino de %d celdas, %.2f ms",
+                        solution.getAlgorithmName(), solution.getNodesExpanded(), solution.getPath().size(),
+                        solution.getElapsedNanos() / 1e6));
+                onSolved.accept(solution);
+            } catch (InterruptedException | ExecutionException e) {
+                statusListener.accept("Error al resolver.");
+                JOptionPane.showMessageDialog(parentFrame, "Error al resolver el laberinto: " + e.getCause(), "Error de Solución", JOptionPane.ERROR_MESSAGE);
+            }
+        }
+    }
+
+    // Los solvers guardan sus estructuras de búsqueda (visitados, padres, colas) para reutilizarlas,
+    // así que se crea una sola instancia por algoritmo
     private MazeSolver getSolverInstance(String algorithmName) {
-        if (Objects.equals(algorithmName, "BFS")) {
-            return new MazeSolverBFS();
-        } else if (Objects.equals(algorithmName, "DFS")) {
-            return new MazeSolverDFS();
-        } else if (Objects.equals(algorithmName, "Recursivo")) {
-            return new MazeSolverRecursivo();
-        } else if (Objects.equals(algorithmName, "Recursivo Completo")) {
-            return new MazeSolverRecursivoCompleto();
-        } else if (Objects.equals(algorithmName, "Recursivo Completo BT")) {
-            return new MazeSolverRecursivoCompletoBT();
-        }
-        return null;
-    }
-
-    private boolean isCellInPath(Cell cell, List<Cell> path) {
-        if (path == null) return false;
-        return path.contains(cell);
+        MazeSolver cached = solverInstances.get(algorithmName);
+        if (cached != null) {
+            return cached;
+        }
+        MazeSolver solver = SolverRegistry.create(algorithmName);
+        if (solver != null) {
+            solverInstances.put(algorithmName, solver);
+        }
+        return solver;
     }
 }
\ No newline at end of file
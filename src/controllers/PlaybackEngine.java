@@ -0,0 +1,182 @@
+package src.controllers;
+
+import src.models.CellState;
+import src.models.ExplorationTrace;
+import src.models.PathIndex;
+import src.views.MazePanel;
+
+import javax.swing.*;
+import java.util.function.IntConsumer;
+
+public class PlaybackEngine {
+    // Reproduce la traza de exploración de un solver (ExplorationTrace) sobre el MazePanel.
+    // El Timer late a ritmo de pantalla y en cada cuadro aplica todos los pasos que tocan según
+    // la velocidad (pasos por segundo) dentro de un único lote del panel: un repaint por cuadro
+    // sin importar cuántas celdas cambien.
+
+    private static final int FRAME_MILLIS = 16; // ~60 cuadros por segundo
+    public static final int DEFAULT_SPEED = 10; // Pasos por segundo (la animación original: 100 ms por celda)
+
+    private final MazePanel mazePanel;
+    private final Timer frameTimer;
+
+    private ExplorationTrace trace;
+    private int length; // Eventos de exploración a reproducir (VISIT y BACKTRACK)
+    private PathIndex pathIndex; // Camino final indexado por posición: consulta O(1) por paso
+    private Runnable onFinished;
+    private int position;
+
+    private int speed = DEFAULT_SPEED;
+    private double pendingSteps; // Fracción de paso acumulada entre cuadros
+    private long lastFrameNanos;
+    private IntConsumer positionListener = position -> { };
+
+    public PlaybackEngine(MazePanel mazePanel) {
+        this.mazePanel = mazePanel;
+        this.frameTimer = new Timer(FRAME_MILLIS, e -> onFrame());
+    }
+
+    // Carga una exploración nueva (en pausa). onFinished se llama al llegar al último paso.
+    public void load(ExplorationTrace trace, Runnable onFinished) {
+        stop();
+        this.trace = trace;
+        this.length = trace.getExplorationLength();
+        this.pathIndex = new PathIndex(trace.getRows(), trace.getCols());
+        for (int i = length; i < trace.size(); i++) {
+            pathIndex.add(trace.getRow(i), trace.getCol(i)); // Eventos PATH, al final de la traza
+        }
+        this.onFinished = onFinished;
+        this.position = 0;
+        positionListener.accept(0);
+    }
+
+    // Descarga la exploración actual sin tocar el panel
+    public void stop() {
+        frameTimer.stop();
+        trace = null;
+        length = 0;
+        pathIndex = null;
+        onFinished = null;
+        position = 0;
+    }
+
+    public void play() {
+        if (!isLoaded() || frameTimer.isRunning()) {
+            return;
+        }
+        pendingSteps = 0;
+        lastFrameNanos = System.nanoTime();
+        frameTimer.start();
+    }
+
+    public void pause() {
+        frameTimer.stop();
+    }
+
+    public boolean isPlaying() {
+        return frameTimer.isRunning();
+    }
+
+    public boolean isLoaded() {
+        return trace != null;
+    }
+
+    // Avanza `count` visitas; los retrocesos intermedios se aplican de paso
+    public void stepForward(int count) {
+        if (!isLoaded()) {
+            return;
+        }
+        int target = position;
+        while (target < length && count > 0) {
+            if (trace.getEvent(target++) == ExplorationTrace.VISIT) {
+                count--;
+            }
+        }
+        seek(target);
+    }
+
+    public void jumpToEnd() {
+        if (isLoaded()) {
+            seek(length);
+        }
+    }
+
+    // Lleva la reproducción al paso indicado. Hacia adelante aplica los pasos que faltan;
+    // hacia atrás limpia la exploración y vuelve a aplicar desde el principio (todo en un lote).
+    public void seek(int target) {
+        if (!isLoaded()) {
+            return;
+        }
+        target = Math.max(0, Math.min(target, length));
+        int previous = position;
+        mazePanel.beginBatch();
+        if (target < position) {
+            mazePanel.resetPathAndVisitedStates();
+            position = 0;
+        }
+        while (position < target) {
+            applyStep(trace.getRow(position), trace.getCol(position));
+            position++;
+        }
+        mazePanel.endBatch();
+        positionListener.accept(position);
+        if (position == length && previous != position) {
+            finish();
+        }
+    }
+
+    private void onFrame() {
+        if (!isLoaded()) {
+            frameTimer.stop();
+            return;
+        }
+        long now = System.nanoTime();
+        pendingSteps += speed * ((now - lastFrameNanos) / 1e9);
+        lastFrameNanos = now;
+        int due = (int) pendingSteps;
+        if (due > 0) {
+            pendingSteps -= due;
+            seek(position + due);
+        }
+    }
+
+    private void finish() {
+        frameTimer.stop();
+        mazePanel.drawPath(pathIndex); // Asegurar que el camino final esté completamente en azul
+        Runnable callback = onFinished;
+        if (callback != null) {
+            callback.run();
+        }
+    }
+
+    // La lógica de pintado de un paso: azul si es parte del camino, gris si es solo visitado
+    // (un retroceso deja la celda en gris). updateCellState nunca pisa START, END ni paredes.
+    private void applyStep(int row, int col) {
+        if (pathIndex.contains(row, col)) {
+            mazePanel.updateCellState(row, col, CellState.PATH);
+        } else {
+            mazePanel.updateCellState(row, col, CellState.VISITED);
+        }
+    }
+
+    public void setSpeed(int stepsPerSecond) {
+        this.speed = Math.max(1, stepsPerSecond);
+    }
+
+    public int getSpeed() {
+        return speed;
+    }
+
+    public int getPosition() {
+        return position;
+    }
+
+    public int getLength() {
+        return length;
+    }
+
+    // Se avisa en el hilo de eventos cada vez que cambia la posición (para la barra de progreso)
+    public void setPositionListener(IntConsumer positionListener) {
+        this.positionListener = positionListener != null ? positionListener : position -> { };
+    }
+}
@@ -0,0 +1,121 @@
+package src.controllers;
+
+import src.models.MazeGrid;
+import src.models.MazeSolution;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class SolveCache {
+    // Caché LRU de soluciones (traza compacta + camino) por (algoritmo, huella de paredes,
+    // dimensiones, inicio, fin). LinkedHashMap en orden de acceso: el primero es el menos usado
+    // y se descarta cuando se pasa del máximo de entradas o del presupuesto de memoria.
+    public static final int DEFAULT_MAX_ENTRIES = 32;
+    public static final long DEFAULT_MAX_BYTES = 64L * 1024 * 1024;
+
+    private final int maxEntries;
+    private final long maxBytes;
+    private final LinkedHashMap<Key, MazeSolution> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytes;
+    private long hits;
+    private long misses;
+
+    public SolveCache() {
+        this(DEFAULT_MAX_ENTRIES, DEFAULT_MAX_BYTES);
+    }
+
+    public SolveCache(int maxEntries, long maxBytes) {
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+    }
+
+    // null si no está (o si la solución no trae traza compacta)
+    public MazeSolution get(String solverName, MazeGrid grid, long wallFingerprint) {
+        MazeSolution solution = entries.get(new Key(solverName, grid, wallFingerprint));
+        if (solution == null) {
+            misses++;
+        } else {
+            hits++;
+        }
+        return solution;
+    }
+
+    public void put(String solverName, MazeGrid grid, long wallFingerprint, MazeSolution solution) {
+        if (solution.getTrace() == null) {
+            return;
+        }
+        long size = estimateBytes(solution);
+        if (size > maxBytes) {
+            return; // No entraría ni sola
+        }
+        MazeSolution previous = entries.put(new Key(solverName, grid, wallFingerprint), solution);
+        if (previous != null) {
+            bytes -= estimateBytes(previous);
+        }
+        bytes += size;
+        Iterator<MazeSolution> eldest = entries.values().iterator();
+        while (entries.size() > maxEntries || bytes > maxBytes) {
+            bytes -= estimateBytes(eldest.next());
+            eldest.remove();
+        }
+    }
+
+    public void clear() {
+        entries.clear();
+        bytes = 0;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    // Traza: 5 bytes por evento; camino: un Cell (~32 bytes) más la referencia
+    private static long estimateBytes(MazeSolution solution) {
+        return 5L * solution.getTrace().size() + 40L * solution.getPath().size();
+    }
+
+    private static class Key {
+        private final String solverName;
+        private final long wallFingerprint;
+        private final int rows;
+        private final int cols;
+        private final int start;
+        private final int end;
+
+        Key(String solverName, MazeGrid grid, long wallFingerprint) {
+            this.solverName = solverName;
+            this.wallFingerprint = wallFingerprint;
+            this.rows = grid.getRows();
+            this.cols = grid.getCols();
+            this.start = grid.getStart();
+            this.end = grid.getEnd();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) return false;
+            Key other = (Key) o;
+            return wallFingerprint == other.wallFingerprint && rows == other.rows && cols == other.cols &&
+                    start == other.start && end == other.end && solverName.equals(other.solverName);
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = Long.hashCode(wallFingerprint);
+            hash = hash * 31 + rows;
+            hash = hash * 31 + cols;
+            hash = hash * 31 + start;
+            hash = hash * 31 + end;
+            return hash * 31 + solverName.hashCode();
+        }
+    }
+}
@@ -1,9 +1,25 @@
 package src.dao;
 
 import java.util.List;
+import java.util.stream.Stream;
 import src.models.AlgorithmResult;
 
-public interface AlgorithmResultDAO {
+public interface AlgorithmResultDAO extends AutoCloseable {
     void saveResult(AlgorithmResult result);
     List<AlgorithmResult> loadResults();
+
+    // Recorre los resultados guardados sin cargarlos todos a la vez (cerrar el Stream al terminar).
+    // Por defecto se apoya en loadResults().
+    default Stream<AlgorithmResult> streamResults() {
+        return loadResults().stream();
+    }
+
+    // Escribe lo que haya pendiente en memoria (las implementaciones con buffer)
+    default void flush() {
+    }
+
+    // Libera archivos o hilos abiertos; por defecto no hay nada que liberar
+    @Override
+    default void close() {
+    }
 }
@@ -0,0 +1,10 @@
+package src.dao;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import src.models.MazeGrid;
+
+public interface MazeDAO {
+    void saveMaze(MazeGrid grid, Path file) throws IOException;
+    MazeGrid loadMaze(Path file) throws IOException;
+}
@@ -0,0 +1,208 @@
+package src.dao.daoImpl;
+
+import src.dao.AlgorithmResultDAO;
+import src.models.AlgorithmResult;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+public class AlgorithmResultDAOAsync implements AlgorithmResultDAO {
+    // Decorador que saca la escritura del hilo que llama: saveResult solo encola el resultado
+    // (cola acotada sin locks) y un único hilo escritor lo pasa al DAO real por lotes, llamando
+    // a flush() del DAO real cada vez que vacía la cola. Así ni el hilo de eventos ni los
+    // tiempos medidos cargan con la latencia del disco.
+    //
+    // Con la cola llena, BLOCK espera a que haya lugar y DROP descarta el resultado y lo cuenta.
+    // close() (o el cierre de la JVM) escribe todo lo pendiente antes de cerrar el DAO real.
+
+    public enum OverflowPolicy {
+        BLOCK,
+        DROP
+    }
+
+    public static final int DEFAULT_CAPACITY = 8192;
+    private static final int MAX_BATCH = 1024;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private final AlgorithmResultDAO delegate;
+    private final OverflowPolicy policy;
+    private final BoundedMpscQueue<AlgorithmResult> queue;
+    private final Thread writer;
+    private final Thread shutdownHook;
+
+    private final AtomicLong enqueued = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicInteger inFlight = new AtomicInteger(); // Productores dentro de saveResult
+    private long written; // Resultados entregados al DAO real (solo el consumidor de la cola)
+    private volatile long persisted; // Resultados ya entregados al DAO real y con flush
+    private volatile boolean closed;
+
+    public AlgorithmResultDAOAsync(AlgorithmResultDAO delegate) {
+        this(delegate, DEFAULT_CAPACITY, OverflowPolicy.BLOCK);
+    }
+
+    public AlgorithmResultDAOAsync(AlgorithmResultDAO delegate, int capacity, OverflowPolicy policy) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacidad inválida: " + capacity);
+        }
+        this.delegate = delegate;
+        this.policy = policy;
+        this.queue = new BoundedMpscQueue<>(capacity);
+        this.writer = new Thread(this::writeLoop, "results-writer");
+        this.writer.setDaemon(true);
+        this.shutdownHook = new Thread(this::close, "results-writer-shutdown");
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+        this.writer.start();
+    }
+
+    @Override
+    public void saveResult(AlgorithmResult result) {
+        // Se anota antes de mirar `closed`: o close() ve a este productor y lo espera antes del
+        // vaciado final, o este productor ve `closed` y descarta el resultado
+        inFlight.incrementAndGet();
+        try {
+            if (closed) {
+                dropped.incrementAndGet();
+                return;
+            }
+            while (!queue.offer(result)) {
+                if (policy == OverflowPolicy.DROP || closed) {
+                    dropped.incrementAndGet();
+                    return;
+                }
+                LockSupport.unpark(writer);
+                LockSupport.parkNanos(10_000); // Contrapresión: esperar a que el escritor libere lugar
+            }
+            enqueued.incrementAndGet();
+            LockSupport.unpark(writer);
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private void writeLoop() {
+        while (true) {
+            boolean stopping = closed; // Leído antes de vaciar: lo encolado antes de close() se escribe
+            if (drain(MAX_BATCH) == MAX_BATCH) {
+                continue; // Probablemente queda más en la cola
+            }
+            flushDelegate();
+            if (stopping) {
+                return;
+            }
+            LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+        }
+    }
+
+    // Pasa hasta `max` resultados de la cola al DAO real; solo desde el consumidor de la cola
+    private int drain(int max) {
+        int batch = 0;
+        AlgorithmResult result;
+        while (batch < max && (result = queue.poll()) != null) {
+            try {
+                delegate.saveResult(result);
+            } catch (RuntimeException e) {
+                failed.incrementAndGet();
+                System.err.println("Error saving results: " + e.getMessage());
+            }
+            batch++;
+        }
+        written += batch;
+        return batch;
+    }
+
+    private void flushDelegate() {
+        if (written == persisted) {
+            return;
+        }
+        try {
+            delegate.flush();
+        } catch (RuntimeException e) {
+            System.err.println("Error saving results: " + e.getMessage());
+        }
+        persisted = written;
+    }
+
+    // Espera a que lo encolado hasta ahora (por cualquier hilo) llegue al DAO real
+    @Override
+    public void flush() {
+        long target = enqueued.get();
+        while (persisted < target && writer.isAlive()) {
+            LockSupport.unpark(writer);
+            LockSupport.parkNanos(100_000);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        LockSupport.unpark(writer);
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // Los productores que entraron antes de `closed` terminan de encolar (o descartan, si la
+        // cola sigue llena: el escritor ya no la vacía)
+        while (inFlight.get() > 0) {
+            LockSupport.parkNanos(10_000);
+        }
+        // Con el escritor terminado, este hilo pasa a ser el consumidor: lo que se haya colado
+        // durante el cierre también se escribe
+        if (!writer.isAlive()) {
+            drain(Integer.MAX_VALUE);
+            flushDelegate();
+        }
+        delegate.close();
+        if (Thread.currentThread() != shutdownHook) {
+            try {
+                Runtime.getRuntime().removeShutdownHook(shutdownHook);
+            } catch (IllegalStateException e) {
+                // La JVM ya se está cerrando: el hook corre igual y no encuentra nada pendiente
+            }
+        }
+    }
+
+    @Override
+    public List<AlgorithmResult> loadResults() {
+        flush();
+        return delegate.loadResults();
+    }
+
+    @Override
+    public Stream<AlgorithmResult> streamResults() {
+        flush();
+        return delegate.streamResults();
+    }
+
+    // Resultados descartados por la política DROP o por llegar después de close()
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    // Resultados que el DAO real rechazó con una excepción
+    public long getFailedCount() {
+        return failed.get();
+    }
+
+    // Resultados en la cola que el escritor todavía no entregó
+    public long getPendingCount() {
+        return enqueued.get() - persisted;
+    }
+
+    public int getCapacity() {
+        return queue.capacity();
+    }
+
+    public OverflowPolicy getPolicy() {
+        return policy;
+    }
+}
@@ -0,0 +1,312 @@
+package src.dao.daoImpl;
+
+import src.dao.AlgorithmResultDAO;
+import src.models.AlgorithmResult;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public class AlgorithmResultDAOBinaryLog implements AlgorithmResultDAO {
+    // Log binario de solo agregado con registros de ancho fijo (little-endian).
+    // El canal queda abierto mientras viva el DAO; los registros se acumulan en un buffer y se
+    // escriben por lotes (al llenarse, en flush() y en close()).
+    //
+    // Cabecera (16 bytes): MAGIC ("MRES"), versión, tamaño de registro, reservado.
+    // Registro (96 bytes):
+    //   0  byte     largo del nombre en UTF-8 (hasta 39, se recorta)
+    //   1  39 bytes nombre
+    //  40  int      largo del camino
+    //  44  long     nanosegundos
+    //  52  long     nodos expandidos
+    //  60  int      frontera máxima
+    //  64  long     bytes asignados
+    //  72  int      filas
+    //  76  int      columnas
+    //  80  double   densidad de paredes
+    //  88  long     timestamp (epoch ms)
+    private static final String FILE_NAME = "results.bin";
+    public static final int MAGIC = 0x4D524553;
+    public static final int VERSION = 1;
+    public static final int HEADER_SIZE = 16;
+    public static final int RECORD_SIZE = 96;
+    private static final int NAME_BYTES = 39;
+    private static final int BATCH_RECORDS = 256; // Registros por escritura agrupada
+
+    private final Path file;
+    private final FileChannel channel;
+    private final ByteBuffer batch = ByteBuffer.allocateDirect(BATCH_RECORDS * RECORD_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+
+    public AlgorithmResultDAOBinaryLog() {
+        this(Paths.get(FILE_NAME));
+    }
+
+    public AlgorithmResultDAOBinaryLog(Path file) {
+        this.file = file;
+        try {
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            if (channel.size() < HEADER_SIZE) {
+                ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+                header.putInt(MAGIC).putInt(VERSION).putInt(RECORD_SIZE).putInt(0).flip();
+                channel.truncate(0);
+                writeFully(header, 0);
+            } else {
+                checkHeader(channel, file);
+                // Un registro a medio escribir (corte abrupto) se descarta
+                long records = (channel.size() - HEADER_SIZE) / RECORD_SIZE;
+                channel.truncate(HEADER_SIZE + records * RECORD_SIZE);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo abrir " + file, e);
+        }
+    }
+
+    private static void checkHeader(FileChannel channel, Path file) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        while (header.hasRemaining() && channel.read(header, header.position()) >= 0) {
+            // Leer la cabecera completa
+        }
+        if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION || header.getInt(8) != RECORD_SIZE) {
+            throw new IOException("No es un log de resultados compatible: " + file);
+        }
+    }
+
+    @Override
+    public synchronized void saveResult(AlgorithmResult result) {
+        if (!batch.hasRemaining()) {
+            flush();
+        }
+        encode(result, batch);
+    }
+
+    @Override
+    public synchronized void flush() {
+        if (batch.position() == 0) {
+            return;
+        }
+        batch.flip();
+        try {
+            writeFully(batch, channel.size());
+        } catch (IOException e) {
+            System.err.println("Error saving results: " + e.getMessage());
+        } finally {
+            batch.clear();
+        }
+    }
+
+    private void writeFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        flush();
+        try {
+            channel.force(false);
+            channel.close();
+        } catch (IOException e) {
+            System.err.println("Error closing results log: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public List<AlgorithmResult> loadResults() {
+        try (Stream<AlgorithmResult> results = streamResults()) {
+            return results.collect(Collectors.toList());
+        }
+    }
+
+    // Lee por bloques con un canal propio; ve los registros escritos hasta el momento de la llamada
+    @Override
+    public Stream<AlgorithmResult> streamResults() {
+        flush();
+        try {
+            FileChannel reader = FileChannel.open(file, StandardOpenOption.READ);
+            long records;
+            try {
+                checkHeader(reader, file);
+                records = (reader.size() - HEADER_SIZE) / RECORD_SIZE;
+            } catch (IOException e) {
+                reader.close();
+                throw e;
+            }
+            RecordIterator iterator = new RecordIterator(reader, records);
+            return StreamSupport.stream(Spliterators.spliterator(iterator, records,
+                    Spliterator.ORDERED | Spliterator.NONNULL), false).onClose(iterator::close);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error loading results: " + e.getMessage(), e);
+        }
+    }
+
+    // Cantidad de registros guardados (incluye los que esperan en el buffer)
+    public synchronized long size() {
+        try {
+            return (channel.size() - HEADER_SIZE) / RECORD_SIZE + batch.position() / RECORD_SIZE;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error reading results log: " + e.getMessage(), e);
+        }
+    }
+
+    // Lee los registros de las posiciones indices[from..to) en ese orden. Las posiciones
+    // consecutivas se leen juntas en un solo bloque.
+    public synchronized void readResults(int[] indices, int from, int to, Consumer<AlgorithmResult> action) {
+        flush();
+        ByteBuffer block = ByteBuffer.allocateDirect(BATCH_RECORDS * RECORD_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        RecordDecoder decoder = new RecordDecoder();
+        int i = from;
+        while (i < to) {
+            int first = indices[i];
+            int run = 1;
+            while (i + run < to && run < BATCH_RECORDS && indices[i + run] == first + run) {
+                run++;
+            }
+            block.clear().limit(run * RECORD_SIZE);
+            readFully(channel, block, HEADER_SIZE + (long) first * RECORD_SIZE);
+            block.flip();
+            for (int k = 0; k < run; k++) {
+                action.accept(decoder.decode(block));
+            }
+            i += run;
+        }
+    }
+
+    private static void readFully(FileChannel reader, ByteBuffer block, long position) {
+        try {
+            while (block.hasRemaining()) {
+                int read = reader.read(block, position);
+                if (read < 0) {
+                    throw new IOException("Fin de archivo inesperado");
+                }
+                position += read;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error loading results: " + e.getMessage(), e);
+        }
+    }
+
+    private static class RecordIterator implements Iterator<AlgorithmResult> {
+        private final FileChannel reader;
+        private final long records;
+        private final ByteBuffer block = ByteBuffer.allocateDirect(BATCH_RECORDS * RECORD_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        private final RecordDecoder decoder = new RecordDecoder();
+        private long next;
+
+        RecordIterator(FileChannel reader, long records) {
+            this.reader = reader;
+            this.records = records;
+            block.limit(0);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < records;
+        }
+
+        @Override
+        public AlgorithmResult next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            if (!block.hasRemaining()) {
+                block.clear();
+                long remaining = (records - next) * RECORD_SIZE;
+                if (remaining < block.capacity()) {
+                    block.limit((int) remaining);
+                }
+                readFully(reader, block, HEADER_SIZE + next * RECORD_SIZE);
+                block.flip();
+            }
+            next++;
+            return decoder.decode(block);
+        }
+
+        void close() {
+            try {
+                reader.close();
+            } catch (IOException e) {
+                System.err.println("Error closing results log: " + e.getMessage());
+            }
+        }
+    }
+
+    private static class RecordDecoder {
+        // Los nombres se repiten mucho: se reutiliza el último String decodificado
+        private final byte[] nameBytes = new byte[NAME_BYTES];
+        private String lastName = "";
+        private byte[] lastNameBytes = new byte[0];
+
+        // Decodifica el registro en la posición actual del buffer y avanza al siguiente
+        AlgorithmResult decode(ByteBuffer block) {
+            int start = block.position();
+            int nameLength = block.get(start) & 0xFF;
+            block.position(start + 1);
+            block.get(nameBytes, 0, nameLength);
+            String name = nameFor(nameLength);
+            block.position(start + 1 + NAME_BYTES);
+            int pathLength = block.getInt();
+            long nanos = block.getLong();
+            long nodes = block.getLong();
+            int frontier = block.getInt();
+            long bytes = block.getLong();
+            int rows = block.getInt();
+            int cols = block.getInt();
+            double density = block.getDouble();
+            long timestamp = block.getLong();
+            return new AlgorithmResult(name, pathLength, nanos, nodes, frontier, bytes, rows, cols, density, timestamp);
+        }
+
+        private String nameFor(int length) {
+            if (length != lastNameBytes.length) {
+                return remember(length);
+            }
+            for (int i = 0; i < length; i++) {
+                if (nameBytes[i] != lastNameBytes[i]) {
+                    return remember(length);
+                }
+            }
+            return lastName;
+        }
+
+        private String remember(int length) {
+            lastNameBytes = Arrays.copyOf(nameBytes, length);
+            lastName = new String(nameBytes, 0, length, StandardCharsets.UTF_8);
+            return lastName;
+        }
+    }
+
+    private static void encode(AlgorithmResult result, ByteBuffer out) {
+        int start = out.position();
+        byte[] name = result.getAlgorithmName().getBytes(StandardCharsets.UTF_8);
+        int nameLength = Math.min(name.length, NAME_BYTES);
+        out.put((byte) nameLength);
+        out.put(name, 0, nameLength);
+        out.position(start + 1 + NAME_BYTES);
+        out.putInt(result.getPathLength());
+        out.putLong(result.getExecutionTimeNanos());
+        out.putLong(result.getNodesExpanded());
+        out.putInt(result.getPeakFrontier());
+        out.putLong(result.getBytesAllocated());
+        out.putInt(result.getRows());
+        out.putInt(result.getCols());
+        out.putDouble(result.getWallDensity());
+        out.putLong(result.getTimestamp());
+    }
+}
@@ -6,14 +6,22 @@ import src.models.AlgorithmResult;
 import java.io.*;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 
 public class AlgorithmResultDAOFile implements AlgorithmResultDAO {
     private static final String FILE_NAME = "results.txt";
 
+    // Formato: nombre,camino,ms[,nanos,nodos,fronteraMax,bytes,filas,columnas,densidad,timestamp]
+    // Las líneas antiguas de 3 columnas se siguen leyendo.
     @Override
     public void saveResult(AlgorithmResult result) {
         try (BufferedWriter writer = new BufferedWriter(new FileWriter(FILE_NAME, true))) {
-            writer.write(result.getAlgorithmName() + "," + result.getPathLength() + "," + result.getExecutionTime());
+            writer.write(result.getAlgorithmName() + "," + result.getPathLength() + "," + result.getExecutionTime()
+                    + "," + result.getExecutionTimeNanos() + "," + result.getNodesExpanded()
+                    + "," + result.getPeakFrontier() + "," + result.getBytesAllocated()
+                    + "," + result.getRows() + "," + result.getCols()
+                    + "," + String.format(Locale.ROOT, "%.4f", result.getWallDensity())
+                    + "," + result.getTimestamp());
             writer.newLine();
         } catch (IOException e) {
             System.err.println("Error saving result: " + e.getMessage());
@@ -33,6 +41,11 @@ public class AlgorithmResultDAOFile implements AlgorithmResultDAO {
                     int path = Integer.parseInt(parts[1]);
                     long time = Long.parseLong(parts[2]);
                     results.add(new AlgorithmResult(name, path, time));
+                } else if (parts.length == 11) {
+                    results.add(new AlgorithmResult(parts[0], Integer.parseInt(parts[1]), Long.parseLong(parts[3]),
+                            Long.parseLong(parts[4]), Integer.parseInt(parts[5]), Long.parseLong(parts[6]),
+                            Integer.parseInt(parts[7]), Integer.parseInt(parts[8]), Double.parseDouble(parts[9]),
+                            Long.parseLong(parts[10])));
                 }
             }
         } catch (IOException e) {
@@ -0,0 +1,270 @@
+package src.dao.daoImpl;
+
+import src.dao.AlgorithmResultDAO;
+import src.models.AlgorithmResult;
+import src.models.ResultStatistics;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+public class AlgorithmResultDAOIndexed implements AlgorithmResultDAO {
+    // Almacén de resultados con índice: los registros viven en el log binario
+    // (AlgorithmResultDAOBinaryLog) y en memoria solo queda, por cada serie
+    // (algoritmo, filas, columnas), la lista de (timestamp, posición en el log) ordenada por
+    // tiempo y resúmenes precalculados cada BLOCK_SIZE ejecuciones. Un rango de tiempo se
+    // ubica con búsqueda binaria; sus agregados combinan los bloques completos y solo leen del
+    // disco las ejecuciones de los bordes.
+    //
+    // En las consultas, algorithm == null y rows/cols <= 0 significan "cualquiera"; el rango
+    // de tiempo es [fromMillis, toMillis) en epoch ms.
+    private static final String FILE_NAME = "results.bin";
+    private static final int BLOCK_SIZE = 1024;
+
+    private final AlgorithmResultDAOBinaryLog log;
+    private final Map<SeriesKey, Series> index = new HashMap<>();
+
+    public AlgorithmResultDAOIndexed() {
+        this(Paths.get(FILE_NAME));
+    }
+
+    public AlgorithmResultDAOIndexed(Path file) {
+        this.log = new AlgorithmResultDAOBinaryLog(file);
+        // El índice se arma recorriendo el log una sola vez al abrir
+        int[] ordinal = {0};
+        try (Stream<AlgorithmResult> results = log.streamResults()) {
+            results.forEach(result -> indexResult(result, ordinal[0]++));
+        }
+    }
+
+    @Override
+    public synchronized void saveResult(AlgorithmResult result) {
+        int ordinal = (int) log.size();
+        log.saveResult(result);
+        indexResult(result, ordinal);
+    }
+
+    private void indexResult(AlgorithmResult result, int ordinal) {
+        SeriesKey key = new SeriesKey(result.getAlgorithmName(), result.getRows(), result.getCols());
+        index.computeIfAbsent(key, k -> new Series()).add(result, ordinal);
+    }
+
+    @Override
+    public List<AlgorithmResult> loadResults() {
+        return log.loadResults();
+    }
+
+    @Override
+    public Stream<AlgorithmResult> streamResults() {
+        return log.streamResults();
+    }
+
+    @Override
+    public void flush() {
+        log.flush();
+    }
+
+    @Override
+    public synchronized void close() {
+        log.close();
+        index.clear();
+    }
+
+    // Ejecuciones que cumplen el filtro, ordenadas por timestamp
+    public synchronized List<AlgorithmResult> query(String algorithm, int rows, int cols, long fromMillis, long toMillis) {
+        List<AlgorithmResult> results = new ArrayList<>();
+        List<Series> matching = matching(algorithm, rows, cols);
+        for (Series series : matching) {
+            int from = series.lowerBound(fromMillis);
+            int to = series.lowerBound(toMillis);
+            log.readResults(series.ordinals, from, to, results::add);
+        }
+        if (matching.size() > 1) {
+            results.sort(Comparator.comparingLong(AlgorithmResult::getTimestamp));
+        }
+        return results;
+    }
+
+    public List<AlgorithmResult> query(String algorithm, int rows, int cols) {
+        return query(algorithm, rows, cols, Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    public synchronized int count(String algorithm, int rows, int cols, long fromMillis, long toMillis) {
+        int count = 0;
+        for (Series series : matching(algorithm, rows, cols)) {
+            count += series.lowerBound(toMillis) - series.lowerBound(fromMillis);
+        }
+        return count;
+    }
+
+    // Cantidad, media, percentiles (p50/p90/p99, aproximados por histograma) y extremos del tiempo
+    public synchronized ResultStatistics aggregate(String algorithm, int rows, int cols, long fromMillis, long toMillis) {
+        RunSummary summary = new RunSummary();
+        for (Series series : matching(algorithm, rows, cols)) {
+            series.summarize(log, series.lowerBound(fromMillis), series.lowerBound(toMillis), summary);
+        }
+        return summary.toStatistics(algorithm != null ? algorithm : "Todos");
+    }
+
+    public ResultStatistics aggregate(String algorithm, int rows, int cols) {
+        return aggregate(algorithm, rows, cols, Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    // Un resumen por algoritmo, en orden alfabético
+    public synchronized List<ResultStatistics> aggregateByAlgorithm(int rows, int cols, long fromMillis, long toMillis) {
+        Map<String, RunSummary> byAlgorithm = new HashMap<>();
+        for (Series series : matching(null, rows, cols)) {
+            RunSummary summary = byAlgorithm.computeIfAbsent(series.algorithmName, name -> new RunSummary());
+            series.summarize(log, series.lowerBound(fromMillis), series.lowerBound(toMillis), summary);
+        }
+        List<ResultStatistics> statistics = new ArrayList<>();
+        byAlgorithm.keySet().stream().sorted().forEach(name -> {
+            RunSummary summary = byAlgorithm.get(name);
+            if (summary.getCount() > 0) {
+                statistics.add(summary.toStatistics(name));
+            }
+        });
+        return statistics;
+    }
+
+    // Hay pocas series (algoritmos x tamaños), así que filtrarlas todas es barato
+    private List<Series> matching(String algorithm, int rows, int cols) {
+        List<Series> matching = new ArrayList<>();
+        if (algorithm != null && rows > 0 && cols > 0) {
+            Series series = index.get(new SeriesKey(algorithm, rows, cols));
+            if (series != null) {
+                matching.add(series);
+            }
+            return matching;
+        }
+        for (Map.Entry<SeriesKey, Series> entry : index.entrySet()) {
+            SeriesKey key = entry.getKey();
+            if ((algorithm == null || algorithm.equals(key.algorithmName)) &&
+                    (rows <= 0 || rows == key.rows) && (cols <= 0 || cols == key.cols)) {
+                matching.add(entry.getValue());
+            }
+        }
+        return matching;
+    }
+
+    private static class SeriesKey {
+        private final String algorithmName;
+        private final int rows;
+        private final int cols;
+
+        SeriesKey(String algorithmName, int rows, int cols) {
+            this.algorithmName = algorithmName;
+            this.rows = rows;
+            this.cols = cols;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof SeriesKey)) return false;
+            SeriesKey other = (SeriesKey) o;
+            return rows == other.rows && cols == other.cols && algorithmName.equals(other.algorithmName);
+        }
+
+        @Override
+        public int hashCode() {
+            return (algorithmName.hashCode() * 31 + rows) * 31 + cols;
+        }
+    }
+
+    private static class Series {
+        private String algorithmName;
+        private long[] timestamps = new long[16];
+        private int[] ordinals = new int[16];
+        private int size;
+        // blocks.get(b) resume las posiciones [b * BLOCK_SIZE, (b + 1) * BLOCK_SIZE)
+        private final List<RunSummary> blocks = new ArrayList<>();
+        private int summarizedUpTo; // Posiciones ya incluidas en los bloques
+
+        void add(AlgorithmResult result, int ordinal) {
+            algorithmName = result.getAlgorithmName();
+            if (size == timestamps.length) {
+                timestamps = Arrays.copyOf(timestamps, size * 2);
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+            }
+            long timestamp = result.getTimestamp();
+            // Lo normal es llegar en orden; si no, se inserta en su lugar y los bloques
+            // desde ese punto se recalculan en la próxima consulta
+            int position = size;
+            if (size > 0 && timestamp < timestamps[size - 1]) {
+                position = lowerBound(timestamp + 1);
+                System.arraycopy(timestamps, position, timestamps, position + 1, size - position);
+                System.arraycopy(ordinals, position, ordinals, position + 1, size - position);
+            }
+            timestamps[position] = timestamp;
+            ordinals[position] = ordinal;
+            size++;
+            if (position == size - 1 && position == summarizedUpTo) {
+                if (position % BLOCK_SIZE == 0) {
+                    blocks.add(new RunSummary());
+                }
+                blocks.get(position / BLOCK_SIZE).add(result);
+                summarizedUpTo++;
+            } else {
+                int block = Math.min(position, summarizedUpTo) / BLOCK_SIZE;
+                while (blocks.size() > block) {
+                    blocks.remove(blocks.size() - 1);
+                }
+                summarizedUpTo = block * BLOCK_SIZE;
+            }
+        }
+
+        // Primera posición con timestamp >= millis
+        int lowerBound(long millis) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (timestamps[mid] < millis) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        // Agrega las posiciones [from, to) a `into`
+        void summarize(AlgorithmResultDAOBinaryLog log, int from, int to, RunSummary into) {
+            if (from >= to) {
+                return;
+            }
+            catchUp(log);
+            int firstBlock = (from + BLOCK_SIZE - 1) / BLOCK_SIZE;
+            // Exclusivo; si el rango llega al final, el último bloque (aunque esté incompleto) también sirve
+            int lastBlock = to == size ? blocks.size() : to / BLOCK_SIZE;
+            if (firstBlock >= lastBlock) {
+                log.readResults(ordinals, from, to, into::add);
+                return;
+            }
+            log.readResults(ordinals, from, firstBlock * BLOCK_SIZE, into::add);
+            for (int b = firstBlock; b < lastBlock; b++) {
+                into.merge(blocks.get(b));
+            }
+            log.readResults(ordinals, Math.min(to, lastBlock * BLOCK_SIZE), to, into::add);
+        }
+
+        // Vuelve a resumir las posiciones que quedaron fuera de los bloques tras una inserción
+        private void catchUp(AlgorithmResultDAOBinaryLog log) {
+            while (summarizedUpTo < size) {
+                int block = summarizedUpTo / BLOCK_SIZE;
+                int end = Math.min(size, (block + 1) * BLOCK_SIZE);
+                if (blocks.size() == block) {
+                    blocks.add(new RunSummary());
+                }
+                log.readResults(ordinals, summarizedUpTo, end, blocks.get(block)::add);
+                summarizedUpTo = end;
+            }
+        }
+    }
+}
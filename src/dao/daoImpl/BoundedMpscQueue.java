@@ -0,0 +1,64 @@
+package src.dao.daoImpl;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+class BoundedMpscQueue<E> {
+    // Cola acotada sin locks para varios productores y un solo consumidor (anillo con número
+    // de secuencia por casilla). Los productores reservan una casilla con CAS sobre `tail`;
+    // la secuencia de la casilla indica si está libre (== posición) o publicada (== posición + 1).
+    private final AtomicReferenceArray<E> slots;
+    private final AtomicLongArray sequence;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private long head; // Solo lo toca el consumidor
+
+    BoundedMpscQueue(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1; // Potencia de 2 >= capacity
+        slots = new AtomicReferenceArray<>(size);
+        sequence = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequence.set(i, i);
+        }
+        mask = size - 1;
+    }
+
+    // false si la cola está llena
+    boolean offer(E element) {
+        long position = tail.get();
+        while (true) {
+            int slot = (int) position & mask;
+            long distance = sequence.get(slot) - position;
+            if (distance == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots.set(slot, element);
+                    sequence.set(slot, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (distance < 0) {
+                return false; // El consumidor todavía no liberó la casilla de la vuelta anterior
+            } else {
+                position = tail.get(); // Otro productor la tomó
+            }
+        }
+    }
+
+    // Solo desde el hilo consumidor; null si no hay nada publicado
+    E poll() {
+        int slot = (int) head & mask;
+        if (sequence.get(slot) != head + 1) {
+            return null;
+        }
+        E element = slots.get(slot);
+        slots.set(slot, null);
+        sequence.lazySet(slot, head + mask + 1);
+        head++;
+        return element;
+    }
+
+    int capacity() {
+        return mask + 1;
+    }
+}
@@ -0,0 +1,163 @@
+package src.dao.daoImpl;
+
+import src.dao.MazeDAO;
+import src.models.MappedMazeGrid;
+import src.models.MazeGrid;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public class MazeDAOFile implements MazeDAO {
+    // Formato binario de laberintos (.maze), little-endian:
+    //   0  int  MAGIC ("MAZE")
+    //   4  int  versión
+    //   8  int  filas
+    //  12  int  columnas
+    //  16  int  inicio (índice fila-mayor o -1)
+    //  20  int  fin (índice fila-mayor o -1)
+    //  24  8 bytes reservados (el plano de paredes queda alineado a 8)
+    //  32  plano de paredes: ceil(filas*columnas/64) palabras de 64 bits, bit i = celda i (1 = pared)
+    public static final String EXTENSION = ".maze";
+    public static final int MAGIC = 0x4D415A45;
+    public static final int VERSION = 1;
+    public static final int HEADER_SIZE = 32;
+
+    private static final int WRITE_BUFFER_SIZE = 1 << 16;
+
+    @Override
+    public void saveMaze(MazeGrid grid, Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocate(WRITE_BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.putInt(MAGIC).putInt(VERSION)
+                    .putInt(grid.getRows()).putInt(grid.getCols())
+                    .putInt(grid.getStart()).putInt(grid.getEnd())
+                    .putLong(0L);
+            for (int w = 0, words = grid.wordCount(); w < words; w++) {
+                if (buffer.remaining() < Long.BYTES) {
+                    writeFully(channel, buffer);
+                }
+                buffer.putLong(grid.getWallWord(w));
+            }
+            writeFully(channel, buffer);
+        }
+    }
+
+    // Escritura fila por fila para generadores en streaming (MazeGeneratorEller.generateRows):
+    // la memoria usada no depende de la cantidad de filas
+    public RowWriter openRowWriter(Path file, int rows, int cols, int start, int end) throws IOException {
+        if (rows <= 0 || cols <= 0 || (long) rows * cols > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Dimensiones inválidas: " + rows + "x" + cols);
+        }
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        return new RowWriter(channel, rows, cols, start, end);
+    }
+
+    public static class RowWriter implements Closeable {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(WRITE_BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        private final int rows;
+        private final int cols;
+        private int rowsWritten;
+        private long word; // Palabra en construcción
+        private int bit;   // Siguiente bit libre de `word`
+
+        private RowWriter(FileChannel channel, int rows, int cols, int start, int end) {
+            this.channel = channel;
+            this.rows = rows;
+            this.cols = cols;
+            buffer.putInt(MAGIC).putInt(VERSION).putInt(rows).putInt(cols).putInt(start).putInt(end).putLong(0L);
+        }
+
+        public void writeRow(boolean[] walls) throws IOException {
+            if (rowsWritten == rows) {
+                throw new IllegalStateException("Ya se escribieron las " + rows + " filas");
+            }
+            for (int c = 0; c < cols; c++) {
+                if (walls[c]) word |= 1L << bit;
+                if (++bit == Long.SIZE) {
+                    putWord();
+                }
+            }
+            rowsWritten++;
+        }
+
+        private void putWord() throws IOException {
+            if (buffer.remaining() < Long.BYTES) {
+                writeFully(channel, buffer);
+            }
+            buffer.putLong(word);
+            word = 0;
+            bit = 0;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                if (rowsWritten != rows) {
+                    throw new IOException("Se escribieron " + rowsWritten + " de " + rows + " filas");
+                }
+                if (bit > 0) {
+                    putWord();
+                }
+                writeFully(channel, buffer);
+            } finally {
+                channel.close();
+            }
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    // Solo se lee la cabecera; el plano de paredes queda mapeado (sin copiarlo)
+    @Override
+    public MazeGrid loadMaze(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE) {
+                throw new IOException("Archivo de laberinto demasiado corto: " + file);
+            }
+            MappedByteBuffer mapping = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            mapping.order(ByteOrder.LITTLE_ENDIAN);
+            if (mapping.getInt(0) != MAGIC) {
+                throw new IOException("No es un archivo de laberinto: " + file);
+            }
+            int version = mapping.getInt(4);
+            if (version != VERSION) {
+                throw new IOException("Versión de laberinto no soportada: " + version);
+            }
+            int rows = mapping.getInt(8);
+            int cols = mapping.getInt(12);
+            int start = mapping.getInt(16);
+            int end = mapping.getInt(20);
+            if (rows <= 0 || cols <= 0 || (long) rows * cols > Integer.MAX_VALUE) {
+                throw new IOException("Dimensiones inválidas: " + rows + "x" + cols);
+            }
+            if (channel.size() < HEADER_SIZE + (long) MazeGrid.wordCount(rows, cols) * Long.BYTES) {
+                throw new IOException("Plano de paredes incompleto: " + file);
+            }
+            if (start < MazeGrid.NO_CELL || start >= rows * cols || end < MazeGrid.NO_CELL || end >= rows * cols) {
+                throw new IOException("Inicio o fin fuera del laberinto: " + file);
+            }
+
+            // El mapeo sigue siendo válido después de cerrar el canal. Inicio y fin se guardan
+            // sin pared debajo, así que asignarlos no toca el plano (no fuerza la copia).
+            MazeGrid grid = new MappedMazeGrid(rows, cols, mapping, HEADER_SIZE);
+            grid.setStart(start);
+            grid.setEnd(end);
+            return grid;
+        }
+    }
+}
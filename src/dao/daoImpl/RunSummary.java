@@ -0,0 +1,98 @@
+package src.dao.daoImpl;
+
+import src.models.AlgorithmResult;
+import src.models.ResultStatistics;
+
+class RunSummary {
+    // Agregado de un grupo de ejecuciones: conteo, sumas, extremos y un histograma
+    // logarítmico de los tiempos. Los percentiles salen del histograma con error relativo
+    // menor a 1/SUB_BUCKETS, sin guardar los tiempos individuales. Dos resúmenes se combinan
+    // sumando sus cubetas.
+    private static final int SUB_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    private static final int BUCKETS = (64 - SUB_BITS) * SUB_BUCKETS;
+
+    private int count;
+    private long sumNanos;
+    private long sumNodes;
+    private long sumBytes;
+    private long minNanos = Long.MAX_VALUE;
+    private long maxNanos;
+    private final int[] histogram = new int[BUCKETS];
+
+    void add(AlgorithmResult result) {
+        long nanos = Math.max(0, result.getExecutionTimeNanos());
+        count++;
+        sumNanos += nanos;
+        sumNodes += result.getNodesExpanded();
+        sumBytes += result.getBytesAllocated();
+        minNanos = Math.min(minNanos, nanos);
+        maxNanos = Math.max(maxNanos, nanos);
+        histogram[bucketOf(nanos)]++;
+    }
+
+    void merge(RunSummary other) {
+        if (other.count == 0) {
+            return;
+        }
+        count += other.count;
+        sumNanos += other.sumNanos;
+        sumNodes += other.sumNodes;
+        sumBytes += other.sumBytes;
+        minNanos = Math.min(minNanos, other.minNanos);
+        maxNanos = Math.max(maxNanos, other.maxNanos);
+        for (int i = 0; i < BUCKETS; i++) {
+            histogram[i] += other.histogram[i];
+        }
+    }
+
+    int getCount() {
+        return count;
+    }
+
+    // Valores menores a SUB_BUCKETS tienen cubeta propia; el resto se agrupa por potencia de 2
+    // y, dentro de ella, en SUB_BUCKETS partes iguales
+    private static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    // Punto medio del rango de valores que caen en la cubeta
+    private static long valueOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKETS + SUB_BITS - 1;
+        long width = 1L << (exponent - SUB_BITS);
+        long lower = (1L << exponent) + (bucket % SUB_BUCKETS) * width;
+        return lower + width / 2;
+    }
+
+    long percentile(double p) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(p * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += histogram[i];
+            if (seen >= rank) {
+                return Math.max(minNanos, Math.min(maxNanos, valueOf(i)));
+            }
+        }
+        return maxNanos;
+    }
+
+    ResultStatistics toStatistics(String algorithmName) {
+        if (count == 0) {
+            return new ResultStatistics(algorithmName, 0, 0, 0, 0, 0, 0, 0, 0, 0);
+        }
+        return new ResultStatistics(algorithmName, count, (double) sumNanos / count, minNanos,
+                percentile(0.50), percentile(0.90), percentile(0.99), maxNanos,
+                (double) sumNodes / count, (double) sumBytes / count);
+    }
+}
@@ -0,0 +1,38 @@
+package src.generator;
+
+import src.models.MazeGrid;
+
+public abstract class AbstractMazeGenerator implements MazeGenerator {
+    // Auxiliares comunes para los generadores que tallan habitaciones en coordenadas pares
+
+    // Grid lleno de paredes
+    protected static MazeGrid solidGrid(int rows, int cols) {
+        MazeGrid grid = new MazeGrid(rows, cols);
+        for (int i = 0; i < grid.size(); i++) {
+            grid.setWall(i, true);
+        }
+        return grid;
+    }
+
+    // Inicio en la esquina superior izquierda y fin en la última habitación
+    protected static void setCornerEndpoints(MazeGrid grid) {
+        grid.setStart(0);
+        grid.setEnd(lastRoomIndex(grid.getRows(), grid.getCols()));
+    }
+
+    // Índice de la última habitación (NO_CELL si hay una sola, que ya es el inicio)
+    public static int lastRoomIndex(int rows, int cols) {
+        int lastRow = (rows - 1) / 2 * 2;
+        int lastCol = (cols - 1) / 2 * 2;
+        return lastRow == 0 && lastCol == 0 ? MazeGrid.NO_CELL : lastRow * cols + lastCol;
+    }
+
+    // Raíz en un union-find, con compresión de camino por mitades
+    protected static int find(int[] parent, int x) {
+        while (parent[x] != x) {
+            parent[x] = parent[parent[x]];
+            x = parent[x];
+        }
+        return x;
+    }
+}
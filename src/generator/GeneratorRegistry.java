@@ -0,0 +1,40 @@
+package src.generator;
+
+import src.generator.generatorImpl.MazeGeneratorBacktracker;
+import src.generator.generatorImpl.MazeGeneratorEller;
+import src.generator.generatorImpl.MazeGeneratorKruskal;
+import src.generator.generatorImpl.MazeGeneratorPrim;
+import src.generator.generatorImpl.MazeGeneratorRandom;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+public final class GeneratorRegistry {
+    // Generadores disponibles (nombre mostrado -> fábrica), en el orden del menú "Generar".
+    // Los usan la vista y los benchmarks.
+    private static final Map<String, Supplier<MazeGenerator>> GENERATORS = new LinkedHashMap<>();
+
+    static {
+        GENERATORS.put("Backtracking", MazeGeneratorBacktracker::new);
+        GENERATORS.put("Kruskal", MazeGeneratorKruskal::new);
+        GENERATORS.put("Prim", MazeGeneratorPrim::new);
+        GENERATORS.put("Eller", MazeGeneratorEller::new);
+        GENERATORS.put("Aleatorio 30%", () -> new MazeGeneratorRandom(0.3));
+    }
+
+    private GeneratorRegistry() {
+    }
+
+    public static List<String> getNames() {
+        return new ArrayList<>(GENERATORS.keySet());
+    }
+
+    // Devuelve una instancia nueva o null si el generador no existe
+    public static MazeGenerator create(String name) {
+        Supplier<MazeGenerator> factory = GENERATORS.get(name);
+        return factory != null ? factory.get() : null;
+    }
+}
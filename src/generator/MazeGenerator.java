@@ -0,0 +1,12 @@
+package src.generator;
+
+import src.models.MazeGrid;
+
+public interface MazeGenerator {
+    // Los generadores de laberinto perfecto tallan "habitaciones" en las coordenadas pares
+    // (fila y columna pares) y abren la pared intermedia para conectarlas. El inicio queda en
+    // la esquina superior izquierda y el fin en la última habitación.
+    // Con la misma semilla siempre se genera el mismo laberinto.
+    String getName();
+    MazeGrid generate(int rows, int cols, long seed);
+}
@@ -0,0 +1,75 @@
+package src.generator;
+
+import src.dao.daoImpl.MazeDAOFile;
+import src.generator.generatorImpl.MazeGeneratorEller;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+public class MazeGeneratorTool {
+    // Genera un laberinto sin interfaz gráfica y lo guarda en formato .maze (para los benchmarks).
+    //
+    // Uso: java src.generator.MazeGeneratorTool --generator Eller --rows 100001 --cols 1001
+    //      [--seed 42] --out laberinto.maze
+    // Eller se escribe fila por fila directo al archivo (memoria O(columnas)); el resto se arma en memoria.
+
+    public static void main(String[] args) throws IOException {
+        String generatorName = "Eller";
+        int rows = 101;
+        int cols = 101;
+        long seed = 42;
+        Path out = null;
+
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            String value = args[i + 1];
+            switch (args[i]) {
+                case "--generator":
+                    generatorName = value;
+                    break;
+                case "--rows":
+                    rows = Integer.parseInt(value);
+                    break;
+                case "--cols":
+                    cols = Integer.parseInt(value);
+                    break;
+                case "--seed":
+                    seed = Long.parseLong(value);
+                    break;
+                case "--out":
+                    out = Paths.get(value);
+                    break;
+                default:
+                    System.err.println("Opción desconocida: " + args[i]);
+            }
+        }
+        if (out == null) {
+            System.err.println("Falta --out <archivo.maze>");
+            return;
+        }
+        MazeGenerator generator = GeneratorRegistry.create(generatorName);
+        if (generator == null) {
+            System.err.println("Generador no soportado: " + generatorName + " (disponibles: " + GeneratorRegistry.getNames() + ")");
+            return;
+        }
+
+        long begin = System.nanoTime();
+        MazeDAOFile dao = new MazeDAOFile();
+        if (generator instanceof MazeGeneratorEller) {
+            int end = AbstractMazeGenerator.lastRoomIndex(rows, cols);
+            try (MazeDAOFile.RowWriter writer = dao.openRowWriter(out, rows, cols, 0, end)) {
+                ((MazeGeneratorEller) generator).generateRows(rows, cols, seed, (row, walls) -> {
+                    try {
+                        writer.writeRow(walls);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        } else {
+            dao.saveMaze(generator.generate(rows, cols, seed), out);
+        }
+        System.out.printf("%s %dx%d -> %s (%.1f ms)%n", generator.getName(), rows, cols, out, (System.nanoTime() - begin) / 1e6);
+    }
+}
@@ -0,0 +1,7 @@
+package src.generator;
+
+public interface MazeRowSink {
+    // Recibe el laberinto fila por fila (walls[c] = true si la celda es pared).
+    // El arreglo se reutiliza entre filas: copiarlo si hace falta conservarlo.
+    void acceptRow(int row, boolean[] walls);
+}
@@ -0,0 +1,52 @@
+package src.generator.generatorImpl;
+
+import src.generator.AbstractMazeGenerator;
+import src.models.MazeGrid;
+
+import java.util.Random;
+
+public class MazeGeneratorBacktracker extends AbstractMazeGenerator {
+
+    @Override
+    public String getName() {
+        return "Backtracking";
+    }
+
+    // Backtracker recursivo (con pila explícita): avanza a una habitación vecina sin visitar
+    // al azar y retrocede cuando no quedan. Pasillos largos y pocas bifurcaciones.
+    @Override
+    public MazeGrid generate(int rows, int cols, long seed) {
+        Random random = new Random(seed);
+        MazeGrid grid = solidGrid(rows, cols);
+        int[] stack = new int[((rows + 1) / 2) * ((cols + 1) / 2)];
+        int top = 0;
+        stack[top++] = 0;
+        grid.setWall(0, false);
+        int[] dr = {-2, 2, 0, 0};
+        int[] dc = {0, 0, -2, 2};
+        int[] options = new int[4];
+        while (top > 0) {
+            int cell = stack[top - 1];
+            int r = cell / cols;
+            int c = cell % cols;
+            int count = 0;
+            for (int d = 0; d < 4; d++) {
+                int nr = r + dr[d];
+                int nc = c + dc[d];
+                if (nr >= 0 && nr < rows && nc >= 0 && nc < cols && grid.isWall(nr, nc)) {
+                    options[count++] = d;
+                }
+            }
+            if (count == 0) {
+                top--;
+                continue;
+            }
+            int d = options[random.nextInt(count)];
+            grid.setWall(r + dr[d] / 2, c + dc[d] / 2, false);
+            grid.setWall(r + dr[d], c + dc[d], false);
+            stack[top++] = (r + dr[d]) * cols + c + dc[d];
+        }
+        setCornerEndpoints(grid);
+        return grid;
+    }
+}
@@ -0,0 +1,125 @@
+package src.generator.generatorImpl;
+
+import src.generator.AbstractMazeGenerator;
+import src.generator.MazeRowSink;
+import src.models.MazeGrid;
+
+import java.util.Arrays;
+import java.util.Random;
+
+public class MazeGeneratorEller extends AbstractMazeGenerator {
+    // Algoritmo de Eller: genera el laberinto perfecto una fila de habitaciones a la vez y solo
+    // recuerda a qué conjunto pertenece cada columna de la fila actual. Con generateRows la
+    // memoria es O(columnas) sin importar la altura, así que sirve para laberintos arbitrariamente altos
+    // (por ejemplo, escribiéndolos directo a un archivo).
+
+    @Override
+    public String getName() {
+        return "Eller";
+    }
+
+    @Override
+    public MazeGrid generate(int rows, int cols, long seed) {
+        MazeGrid grid = new MazeGrid(rows, cols);
+        generateRows(rows, cols, seed, (row, walls) -> {
+            for (int c = 0; c < cols; c++) {
+                if (walls[c]) grid.setWall(row, c, true);
+            }
+        });
+        setCornerEndpoints(grid);
+        return grid;
+    }
+
+    // Entrega las filas de la 0 a la rows - 1, en orden
+    public void generateRows(int rows, int cols, long seed, MazeRowSink sink) {
+        if (rows <= 0 || cols <= 0) {
+            throw new IllegalArgumentException("Dimensiones inválidas: " + rows + "x" + cols);
+        }
+        Random random = new Random(seed);
+        int roomRows = (rows + 1) / 2;
+        int roomCols = (cols + 1) / 2;
+
+        // label[c]: conjunto heredado de la fila de arriba (0 = habitación nueva, conjunto propio).
+        // En cada fila los conjuntos se rearman en un union-find de tamaño roomCols.
+        int[] label = new int[roomCols];
+        int[] firstWithLabel = new int[roomCols + 1];
+        int[] parent = new int[roomCols];
+        int[] membersSeen = new int[roomCols];
+        int[] chosen = new int[roomCols];
+        boolean[] carried = new boolean[roomCols];
+        boolean[] setCarried = new boolean[roomCols];
+
+        boolean[] roomRow = new boolean[cols];
+        boolean[] passageRow = new boolean[cols];
+
+        for (int r = 0; r < roomRows; r++) {
+            boolean lastRow = r == roomRows - 1;
+
+            // 1. Conjuntos de la fila: las columnas con la misma etiqueta comparten conjunto
+            Arrays.fill(firstWithLabel, -1);
+            for (int c = 0; c < roomCols; c++) {
+                parent[c] = c;
+                if (label[c] != 0) {
+                    if (firstWithLabel[label[c]] < 0) {
+                        firstWithLabel[label[c]] = c;
+                    } else {
+                        parent[c] = firstWithLabel[label[c]];
+                    }
+                }
+            }
+
+            // 2. Uniones horizontales al azar (en la última fila se une todo lo que siga separado)
+            Arrays.fill(roomRow, true);
+            for (int c = 0; c < roomCols; c++) {
+                roomRow[2 * c] = false;
+            }
+            for (int c = 0; c + 1 < roomCols; c++) {
+                int a = find(parent, c);
+                int b = find(parent, c + 1);
+                if (a != b && (lastRow || random.nextBoolean())) {
+                    parent[b] = a;
+                    roomRow[2 * c + 1] = false;
+                }
+            }
+            sink.acceptRow(2 * r, roomRow);
+            if (lastRow) {
+                break;
+            }
+
+            // 3. Bajadas: cada conjunto baja al menos por una de sus columnas
+            Arrays.fill(membersSeen, 0);
+            Arrays.fill(setCarried, false);
+            for (int c = 0; c < roomCols; c++) {
+                int root = find(parent, c);
+                if (random.nextInt(++membersSeen[root]) == 0) {
+                    chosen[root] = c; // Muestreo de reservorio: una columna al azar por conjunto
+                }
+                carried[c] = random.nextBoolean();
+                if (carried[c]) setCarried[root] = true;
+            }
+            for (int c = 0; c < roomCols; c++) {
+                int root = find(parent, c);
+                if (!setCarried[root] && chosen[root] == c) {
+                    carried[c] = true;
+                }
+            }
+
+            Arrays.fill(passageRow, true);
+            for (int c = 0; c < roomCols; c++) {
+                if (carried[c]) {
+                    passageRow[2 * c] = false;
+                    label[c] = find(parent, c) + 1; // La habitación de abajo hereda el conjunto
+                } else {
+                    label[c] = 0;
+                }
+            }
+            sink.acceptRow(2 * r + 1, passageRow);
+        }
+
+        // Con cantidad par de filas, la última queda toda de pared
+        if (rows % 2 == 0) {
+            Arrays.fill(passageRow, true);
+            sink.acceptRow(rows - 1, passageRow);
+        }
+    }
+}
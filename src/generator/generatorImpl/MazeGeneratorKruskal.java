@@ -0,0 +1,63 @@
+package src.generator.generatorImpl;
+
+import src.generator.AbstractMazeGenerator;
+import src.models.MazeGrid;
+
+import java.util.Random;
+
+public class MazeGeneratorKruskal extends AbstractMazeGenerator {
+
+    @Override
+    public String getName() {
+        return "Kruskal";
+    }
+
+    // Kruskal aleatorio: recorre las paredes entre habitaciones en orden aleatorio y abre
+    // cada una que une dos componentes distintas (union-find). Muchas ramas cortas.
+    @Override
+    public MazeGrid generate(int rows, int cols, long seed) {
+        Random random = new Random(seed);
+        MazeGrid grid = solidGrid(rows, cols);
+        int roomRows = (rows + 1) / 2;
+        int roomCols = (cols + 1) / 2;
+        for (int r = 0; r < roomRows; r++) {
+            for (int c = 0; c < roomCols; c++) {
+                grid.setWall(2 * r, 2 * c, false);
+            }
+        }
+
+        // Arista = habitación * 2 + (0: hacia la derecha, 1: hacia abajo)
+        int[] edges = new int[2 * roomRows * roomCols];
+        int edgeCount = 0;
+        for (int room = 0; room < roomRows * roomCols; room++) {
+            if (room % roomCols < roomCols - 1) edges[edgeCount++] = room * 2;
+            if (room / roomCols < roomRows - 1) edges[edgeCount++] = room * 2 + 1;
+        }
+        for (int i = edgeCount - 1; i > 0; i--) { // Fisher-Yates
+            int j = random.nextInt(i + 1);
+            int tmp = edges[i];
+            edges[i] = edges[j];
+            edges[j] = tmp;
+        }
+
+        int[] parent = new int[roomRows * roomCols];
+        for (int i = 0; i < parent.length; i++) {
+            parent[i] = i;
+        }
+        for (int i = 0; i < edgeCount; i++) {
+            int room = edges[i] >> 1;
+            boolean down = (edges[i] & 1) != 0;
+            int other = down ? room + roomCols : room + 1;
+            int rootA = find(parent, room);
+            int rootB = find(parent, other);
+            if (rootA != rootB) {
+                parent[rootA] = rootB;
+                int r = room / roomCols;
+                int c = room % roomCols;
+                grid.setWall(down ? 2 * r + 1 : 2 * r, down ? 2 * c : 2 * c + 1, false);
+            }
+        }
+        setCornerEndpoints(grid);
+        return grid;
+    }
+}
@@ -0,0 +1,76 @@
+package src.generator.generatorImpl;
+
+import src.generator.AbstractMazeGenerator;
+import src.models.MazeGrid;
+
+import java.util.Random;
+
+public class MazeGeneratorPrim extends AbstractMazeGenerator {
+
+    private static final byte OUTSIDE = 0;
+    private static final byte FRONTIER = 1;
+    private static final byte INSIDE = 2;
+
+    @Override
+    public String getName() {
+        return "Prim";
+    }
+
+    // Prim aleatorio: el laberinto crece desde el inicio tomando una habitación al azar de la
+    // frontera y conectándola con un vecino que ya forma parte del laberinto.
+    @Override
+    public MazeGrid generate(int rows, int cols, long seed) {
+        Random random = new Random(seed);
+        MazeGrid grid = solidGrid(rows, cols);
+        int roomRows = (rows + 1) / 2;
+        int roomCols = (cols + 1) / 2;
+
+        byte[] state = new byte[roomRows * roomCols];
+        int[] frontier = new int[roomRows * roomCols];
+        int frontierSize = 0;
+        int[] inside = new int[4];
+
+        state[0] = INSIDE;
+        grid.setWall(0, false);
+        frontierSize = addNeighbors(0, roomRows, roomCols, state, frontier, frontierSize);
+        while (frontierSize > 0) {
+            int pick = random.nextInt(frontierSize);
+            int room = frontier[pick];
+            frontier[pick] = frontier[--frontierSize]; // Quitar en O(1)
+
+            int r = room / roomCols;
+            int c = room % roomCols;
+            int count = 0;
+            if (r > 0 && state[room - roomCols] == INSIDE) inside[count++] = room - roomCols;
+            if (r < roomRows - 1 && state[room + roomCols] == INSIDE) inside[count++] = room + roomCols;
+            if (c > 0 && state[room - 1] == INSIDE) inside[count++] = room - 1;
+            if (c < roomCols - 1 && state[room + 1] == INSIDE) inside[count++] = room + 1;
+            int neighbor = inside[random.nextInt(count)];
+
+            state[room] = INSIDE;
+            grid.setWall(2 * r, 2 * c, false);
+            grid.setWall(r + neighbor / roomCols, c + neighbor % roomCols, false); // Pared intermedia
+            frontierSize = addNeighbors(room, roomRows, roomCols, state, frontier, frontierSize);
+        }
+        setCornerEndpoints(grid);
+        return grid;
+    }
+
+    private static int addNeighbors(int room, int roomRows, int roomCols, byte[] state, int[] frontier, int size) {
+        int r = room / roomCols;
+        int c = room % roomCols;
+        if (r > 0) size = addToFrontier(room - roomCols, state, frontier, size);
+        if (r < roomRows - 1) size = addToFrontier(room + roomCols, state, frontier, size);
+        if (c > 0) size = addToFrontier(room - 1, state, frontier, size);
+        if (c < roomCols - 1) size = addToFrontier(room + 1, state, frontier, size);
+        return size;
+    }
+
+    private static int addToFrontier(int room, byte[] state, int[] frontier, int size) {
+        if (state[room] == OUTSIDE) {
+            state[room] = FRONTIER;
+            frontier[size++] = room;
+        }
+        return size;
+    }
+}
@@ -0,0 +1,37 @@
+package src.generator.generatorImpl;
+
+import src.generator.MazeGenerator;
+import src.models.MazeGrid;
+
+import java.util.Random;
+
+public class MazeGeneratorRandom implements MazeGenerator {
+
+    private final double density;
+
+    public MazeGeneratorRandom(double density) {
+        if (density < 0 || density > 1) {
+            throw new IllegalArgumentException("Densidad inválida: " + density);
+        }
+        this.density = density;
+    }
+
+    @Override
+    public String getName() {
+        return "Aleatorio " + Math.round(density * 100) + "%";
+    }
+
+    // Cada celda es pared con probabilidad `density` (no garantiza que exista camino).
+    // El inicio y el fin van en esquinas opuestas.
+    @Override
+    public MazeGrid generate(int rows, int cols, long seed) {
+        Random random = new Random(seed);
+        MazeGrid grid = new MazeGrid(rows, cols);
+        for (int i = 0; i < grid.size(); i++) {
+            grid.setWall(i, random.nextDouble() < density);
+        }
+        grid.setStart(0);
+        grid.setEnd(grid.size() > 1 ? grid.size() - 1 : MazeGrid.NO_CELL);
+        return grid;
+    }
+}
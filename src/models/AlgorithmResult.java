@@ -3,12 +3,38 @@ package src.models;
 public class AlgorithmResult {
     private String algorithmName;
     private int pathLength;
-    private long executionTime;
+    private long executionTime; // Milisegundos (formato histórico de results.txt)
+
+    // Métricas detalladas de una ejecución (0 si el resultado viene del formato antiguo)
+    private long executionTimeNanos;
+    private long nodesExpanded;
+    private int peakFrontier;
+    private long bytesAllocated;
+    private int rows;
+    private int cols;
+    private double wallDensity;
+    private long timestamp; // Momento de la ejecución (epoch en milisegundos)
 
     public AlgorithmResult(String algorithmName, int pathLength, long executionTime) {
         this.algorithmName = algorithmName;
         this.pathLength = pathLength;
         this.executionTime = executionTime;
+        this.executionTimeNanos = executionTime * 1_000_000L;
+    }
+
+    public AlgorithmResult(String algorithmName, int pathLength, long executionTimeNanos, long nodesExpanded,
+                           int peakFrontier, long bytesAllocated, int rows, int cols, double wallDensity, long timestamp) {
+        this.algorithmName = algorithmName;
+        this.pathLength = pathLength;
+        this.executionTime = executionTimeNanos / 1_000_000L;
+        this.executionTimeNanos = executionTimeNanos;
+        this.nodesExpanded = nodesExpanded;
+        this.peakFrontier = peakFrontier;
+        this.bytesAllocated = bytesAllocated;
+        this.rows = rows;
+        this.cols = cols;
+        this.wallDensity = wallDensity;
+        this.timestamp = timestamp;
     }
 
     public String getAlgorithmName() {
@@ -22,4 +48,36 @@ public class AlgorithmResult {
     public long getExecutionTime() {
         return executionTime;
     }
+
+    public long getExecutionTimeNanos() {
+        return executionTimeNanos;
+    }
+
+    public long getNodesExpanded() {
+        return nodesExpanded;
+    }
+
+    public int getPeakFrontier() {
+        return peakFrontier;
+    }
+
+    public long getBytesAllocated() {
+        return bytesAllocated;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    public double getWallDensity() {
+        return wallDensity;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
 }
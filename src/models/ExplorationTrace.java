@@ -0,0 +1,76 @@
+package src.models;
+
+import java.util.Arrays;
+
+public class ExplorationTrace {
+    // Traza compacta de una búsqueda: índice de celda (row * cols + col) + código de evento por entrada.
+    // Ocupa 5 bytes por paso en lugar de un objeto Cell por paso.
+    // Orden: primero los eventos de exploración (VISIT / BACKTRACK) y al final el camino (PATH).
+    public static final byte VISIT = 0;
+    public static final byte BACKTRACK = 1;
+    public static final byte PATH = 2;
+
+    private final int rows;
+    private final int cols;
+    private int[] cells;
+    private byte[] events;
+    private int size;
+    private int explorationLength; // Entradas antes del primer PATH
+    private int visitCount;
+
+    public ExplorationTrace(int rows, int cols, int initialCapacity) {
+        this.rows = rows;
+        this.cols = cols;
+        this.cells = new int[Math.max(1, initialCapacity)];
+        this.events = new byte[cells.length];
+    }
+
+    // Agrega un evento al final. Los eventos de exploración no pueden ir después del camino.
+    public void add(int cell, byte event) {
+        if (event != PATH && explorationLength != size) {
+            throw new IllegalStateException("Evento de exploración después del camino");
+        }
+        if (size == cells.length) {
+            cells = Arrays.copyOf(cells, size * 2);
+            events = Arrays.copyOf(events, size * 2);
+        }
+        cells[size] = cell;
+        events[size] = event;
+        size++;
+        if (event != PATH) {
+            explorationLength++;
+            if (event == VISIT) visitCount++;
+        }
+    }
+
+    // Libera la capacidad sobrante una vez que la traza está completa
+    public void trimToSize() {
+        if (cells.length > size) {
+            cells = Arrays.copyOf(cells, size);
+            events = Arrays.copyOf(events, size);
+        }
+    }
+
+    public int size() { return size; }
+    public int getRows() { return rows; }
+    public int getCols() { return cols; }
+
+    public int getCell(int i) { return cells[i]; }
+    public byte getEvent(int i) { return events[i]; }
+    public int getRow(int i) { return cells[i] / cols; }
+    public int getCol(int i) { return cells[i] % cols; }
+
+    // Cantidad de eventos VISIT y BACKTRACK (lo que se reproduce como animación)
+    public int getExplorationLength() {
+        return explorationLength;
+    }
+
+    // Cantidad de eventos VISIT (equivale al tamaño de la lista de pasos)
+    public int getVisitCount() {
+        return visitCount;
+    }
+
+    public int getPathLength() {
+        return size - explorationLength;
+    }
+}
@@ -0,0 +1,53 @@
+package src.models;
+
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+
+public class MappedMazeGrid extends MazeGrid {
+    // MazeGrid cuyo plano de paredes vive en un archivo mapeado en memoria (FileChannel.map):
+    // no se copia nada al abrirlo, el sistema operativo trae las páginas a medida que se leen.
+    // El mapeo es de solo lectura; la primera edición de paredes copia el plano a memoria
+    // (el archivo nunca se modifica hasta guardarlo de nuevo).
+    private final MappedByteBuffer mapping; // Referencia para que el mapeo no se libere
+    private final LongBuffer words;
+    private long[] editedWords; // null mientras no se edite
+
+    public MappedMazeGrid(int rows, int cols, MappedByteBuffer mapping, int wallsOffset) {
+        super(rows, cols, false);
+        this.mapping = mapping;
+        mapping.position(wallsOffset);
+        this.words = mapping.slice().order(ByteOrder.LITTLE_ENDIAN).asLongBuffer();
+        if (words.remaining() < wordCount()) {
+            throw new IllegalArgumentException("Plano de paredes incompleto: " + words.remaining() + " de " + wordCount() + " palabras");
+        }
+    }
+
+    @Override
+    public boolean isWall(int index) {
+        return (getWallWord(index >>> 6) & (1L << index)) != 0;
+    }
+
+    @Override
+    public void setWall(int index, boolean wall) {
+        if (editedWords == null) {
+            editedWords = new long[wordCount()];
+            words.get(0, editedWords);
+        }
+        if (wall) {
+            editedWords[index >>> 6] |= 1L << index;
+        } else {
+            editedWords[index >>> 6] &= ~(1L << index);
+        }
+    }
+
+    @Override
+    public long getWallWord(int word) {
+        return editedWords != null ? editedWords[word] : words.get(word);
+    }
+
+    // true mientras las paredes se leen directamente del archivo
+    public boolean isMapped() {
+        return editedWords == null;
+    }
+}
@@ -0,0 +1,31 @@
+package src.models;
+
+public final class MazeFingerprint {
+    // Huella de Zobrist de las paredes: XOR de una clave pseudoaleatoria de 64 bits por cada
+    // celda que es pared. Como el XOR se deshace a sí mismo, poner o quitar una pared actualiza
+    // la huella en O(1) (huella ^= cellKey(celda)) sin recorrer el laberinto.
+    // Las claves salen de mezclar el índice (SplitMix64), así que no hace falta una tabla.
+
+    private MazeFingerprint() {
+    }
+
+    public static long cellKey(int cell) {
+        long z = (cell + 1L) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    // Huella completa (para cuando el laberinto se reemplaza entero)
+    public static long of(MazeGrid grid) {
+        long fingerprint = 0;
+        for (int w = 0, words = grid.wordCount(); w < words; w++) {
+            long word = grid.getWallWord(w);
+            while (word != 0) {
+                fingerprint ^= cellKey((w << 6) + Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+        return fingerprint;
+    }
+}
@@ -0,0 +1,162 @@
+package src.models;
+
+public class MazeGrid {
+    // Representación compacta del laberinto: un bit por celda (1 = pared),
+    // indexado en orden fila-mayor (index = row * cols + col).
+    // Evita tener un objeto Cell por celda en los solvers cuando el grid es grande.
+    public static final int NO_CELL = -1;
+
+    private final int rows;
+    private final int cols;
+    private final long[] walls;
+    private int start = NO_CELL;
+    private int end = NO_CELL;
+
+    public MazeGrid(int rows, int cols) {
+        this(rows, cols, true);
+    }
+
+    // Para subclases que guardan las paredes en otro lado (ej. MappedMazeGrid)
+    protected MazeGrid(int rows, int cols, boolean allocateWalls) {
+        if (rows <= 0 || cols <= 0) {
+            throw new IllegalArgumentException("Dimensiones inválidas: " + rows + "x" + cols);
+        }
+        if ((long) rows * cols > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Laberinto demasiado grande: " + rows + "x" + cols);
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.walls = allocateWalls ? new long[wordCount(rows, cols)] : null;
+    }
+
+    // Convierte el modelo de la vista (MazePanel.getMazeData()) al formato compacto
+    public static MazeGrid fromCells(Cell[][] maze) {
+        MazeGrid grid = new MazeGrid(maze.length, maze[0].length);
+        grid.syncFromCells(maze);
+        return grid;
+    }
+
+    // Vuelve a copiar paredes, inicio y fin desde un Cell[][] de las mismas dimensiones,
+    // sin reservar memoria nueva (solo se tocan las celdas que cambiaron)
+    public void syncFromCells(Cell[][] maze) {
+        if (maze.length != rows || maze[0].length != cols) {
+            throw new IllegalArgumentException("Dimensiones distintas: " + maze.length + "x" + maze[0].length);
+        }
+        start = NO_CELL;
+        end = NO_CELL;
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                CellState state = maze[r][c].getState();
+                int index = r * cols + c;
+                boolean wall = state == CellState.WALL;
+                if (isWall(index) != wall) {
+                    setWall(index, wall);
+                }
+                if (state == CellState.START) {
+                    start = index;
+                } else if (state == CellState.END) {
+                    end = index;
+                }
+            }
+        }
+    }
+
+    // Copia independiente en memoria (también de un MappedMazeGrid): O(celdas / 64)
+    public MazeGrid copy() {
+        MazeGrid copy = new MazeGrid(rows, cols);
+        for (int w = 0, words = wordCount(); w < words; w++) {
+            copy.walls[w] = getWallWord(w);
+        }
+        copy.start = start;
+        copy.end = end;
+        return copy;
+    }
+
+    // Conversión inversa (O(celdas): un Cell por celda)
+    public Cell[][] toCells() {
+        Cell[][] maze = new Cell[rows][cols];
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                maze[r][c] = new Cell(r, c, getState(r * cols + c));
+            }
+        }
+        return maze;
+    }
+
+    public int getRows() { return rows; }
+    public int getCols() { return cols; }
+    public int size() { return rows * cols; }
+
+    public int index(int row, int col) { return row * cols + col; }
+    public int rowOf(int index) { return index / cols; }
+    public int colOf(int index) { return index % cols; }
+
+    public boolean isWall(int index) {
+        return (walls[index >>> 6] & (1L << index)) != 0;
+    }
+
+    public boolean isWall(int row, int col) {
+        return isWall(row * cols + col);
+    }
+
+    public void setWall(int index, boolean wall) {
+        if (wall) {
+            walls[index >>> 6] |= 1L << index;
+        } else {
+            walls[index >>> 6] &= ~(1L << index);
+        }
+    }
+
+    public void setWall(int row, int col, boolean wall) {
+        setWall(row * cols + col, wall);
+    }
+
+    public int getStart() { return start; }
+    public int getEnd() { return end; }
+
+    public void setStart(int index) {
+        if (index != NO_CELL && isWall(index)) setWall(index, false);
+        this.start = index;
+    }
+
+    public void setEnd(int index) {
+        if (index != NO_CELL && isWall(index)) setWall(index, false);
+        this.end = index;
+    }
+
+    // Estado "de edición" de la celda (nunca VISITED/PATH, eso no forma parte del laberinto)
+    public CellState getState(int index) {
+        if (index == start) return CellState.START;
+        if (index == end) return CellState.END;
+        return isWall(index) ? CellState.WALL : CellState.EMPTY;
+    }
+
+    public Cell toCell(int index) {
+        return new Cell(rowOf(index), colOf(index), getState(index));
+    }
+
+    // Palabras de 64 bits del plano de paredes (bit i de la palabra w = celda w * 64 + i)
+    public static int wordCount(int rows, int cols) {
+        return (rows * cols + 63) >>> 6;
+    }
+
+    public int wordCount() {
+        return wordCount(rows, cols);
+    }
+
+    public long getWallWord(int word) {
+        return walls[word];
+    }
+
+    public int countWalls() {
+        int count = 0;
+        for (int w = 0, words = wordCount(); w < words; w++) {
+            count += Long.bitCount(getWallWord(w));
+        }
+        return count;
+    }
+
+    public double getWallDensity() {
+        return (double) countWalls() / size();
+    }
+}
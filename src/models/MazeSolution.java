@@ -0,0 +1,75 @@
+package src.models;
+
+import java.util.List;
+
+public class MazeSolution {
+    // Resultado de una sola pasada de un solver: orden de exploración y camino final juntos
+    private String algorithmName;
+    private List<Cell> visitedSteps; // null si la solución solo trae la traza compacta
+    private ExplorationTrace trace;  // null si la solución solo trae la lista de pasos
+    private List<Cell> path;
+    private int visitedCount;
+    private long elapsedNanos;
+    private long nodesExpanded;
+    private int peakFrontier;
+
+    public MazeSolution(String algorithmName, List<Cell> visitedSteps, List<Cell> path, int visitedCount, long elapsedNanos) {
+        this(algorithmName, visitedSteps, path, visitedCount, elapsedNanos, visitedCount, 0);
+    }
+
+    public MazeSolution(String algorithmName, List<Cell> visitedSteps, List<Cell> path, int visitedCount,
+                        long elapsedNanos, long nodesExpanded, int peakFrontier) {
+        this.algorithmName = algorithmName;
+        this.visitedSteps = visitedSteps;
+        this.path = path;
+        this.visitedCount = visitedCount;
+        this.elapsedNanos = elapsedNanos;
+        this.nodesExpanded = nodesExpanded;
+        this.peakFrontier = peakFrontier;
+    }
+
+    // Solución con la exploración como traza compacta (MazeSolver.solveTrace)
+    public MazeSolution(String algorithmName, ExplorationTrace trace, List<Cell> path, long elapsedNanos,
+                        long nodesExpanded, int peakFrontier) {
+        this(algorithmName, (List<Cell>) null, path, trace.getVisitCount(), elapsedNanos, nodesExpanded, peakFrontier);
+        this.trace = trace;
+    }
+
+    public String getAlgorithmName() {
+        return algorithmName;
+    }
+
+    public List<Cell> getVisitedSteps() {
+        return visitedSteps;
+    }
+
+    public ExplorationTrace getTrace() {
+        return trace;
+    }
+
+    public List<Cell> getPath() {
+        return path;
+    }
+
+    public boolean isPathFound() {
+        return !path.isEmpty();
+    }
+
+    public int getVisitedCount() {
+        return visitedCount;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    // Celdas sacadas de la frontera y procesadas (vecinos revisados)
+    public long getNodesExpanded() {
+        return nodesExpanded;
+    }
+
+    // Tamaño máximo alcanzado por la frontera (cola, pila, lista abierta o profundidad de recursión)
+    public int getPeakFrontier() {
+        return peakFrontier;
+    }
+}
@@ -0,0 +1,57 @@
+package src.models;
+
+import java.util.BitSet;
+import java.util.List;
+
+public class PathIndex {
+    // Conjunto de celdas del camino final indexado por posición (row * cols + col).
+    // Reemplaza List.contains (recorrido lineal con Cell.equals) por una consulta O(1).
+    private final int rows;
+    private final int cols;
+    private final BitSet cells;
+
+    public PathIndex(int rows, int cols) {
+        this.rows = rows;
+        this.cols = cols;
+        this.cells = new BitSet(rows * cols);
+    }
+
+    public static PathIndex of(List<Cell> path, int rows, int cols) {
+        PathIndex index = new PathIndex(rows, cols);
+        if (path != null) {
+            for (Cell cell : path) {
+                index.add(cell.getRow(), cell.getCol());
+            }
+        }
+        return index;
+    }
+
+    public void add(int row, int col) {
+        cells.set(row * cols + col);
+    }
+
+    public boolean contains(int row, int col) {
+        return row >= 0 && row < rows && col >= 0 && col < cols && cells.get(row * cols + col);
+    }
+
+    public boolean contains(Cell cell) {
+        return contains(cell.getRow(), cell.getCol());
+    }
+
+    public int size() {
+        return cells.cardinality();
+    }
+
+    public boolean isEmpty() {
+        return cells.isEmpty();
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    // Posición de la siguiente celda del camino a partir de index (inclusive), o -1 si no hay más
+    public int nextIndex(int index) {
+        return cells.nextSetBit(index);
+    }
+}
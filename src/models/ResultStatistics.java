@@ -0,0 +1,40 @@
+package src.models;
+
+public class ResultStatistics {
+    // Resumen de varias ejecuciones de un mismo algoritmo (tiempos en nanosegundos)
+    private String algorithmName;
+    private int count;
+    private double meanNanos;
+    private long minNanos;
+    private long p50Nanos;
+    private long p90Nanos;
+    private long p99Nanos;
+    private long maxNanos;
+    private double meanNodesExpanded;
+    private double meanBytesAllocated;
+
+    public ResultStatistics(String algorithmName, int count, double meanNanos, long minNanos, long p50Nanos,
+                            long p90Nanos, long p99Nanos, long maxNanos, double meanNodesExpanded, double meanBytesAllocated) {
+        this.algorithmName = algorithmName;
+        this.count = count;
+        this.meanNanos = meanNanos;
+        this.minNanos = minNanos;
+        this.p50Nanos = p50Nanos;
+        this.p90Nanos = p90Nanos;
+        this.p99Nanos = p99Nanos;
+        this.maxNanos = maxNanos;
+        this.meanNodesExpanded = meanNodesExpanded;
+        this.meanBytesAllocated = meanBytesAllocated;
+    }
+
+    public String getAlgorithmName() { return algorithmName; }
+    public int getCount() { return count; }
+    public double getMeanNanos() { return meanNanos; }
+    public long getMinNanos() { return minNanos; }
+    public long getP50Nanos() { return p50Nanos; }
+    public long getP90Nanos() { return p90Nanos; }
+    public long getP99Nanos() { return p99Nanos; }
+    public long getMaxNanos() { return maxNanos; }
+    public double getMeanNodesExpanded() { return meanNodesExpanded; }
+    public double getMeanBytesAllocated() { return meanBytesAllocated; }
+}
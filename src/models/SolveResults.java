@@ -1,7 +1,10 @@
 package src.models;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 public class SolveResults {
     private List<AlgorithmResult> results;
@@ -17,4 +20,52 @@ public class SolveResults {
     public List<AlgorithmResult> getResults() {
         return results;
     }
+
+    // Estadísticas por algoritmo, en el orden en que aparecieron los resultados
+    public Map<String, ResultStatistics> getStatistics() {
+        Map<String, List<AlgorithmResult>> byAlgorithm = new LinkedHashMap<>();
+        for (AlgorithmResult result : results) {
+            byAlgorithm.computeIfAbsent(result.getAlgorithmName(), k -> new ArrayList<>()).add(result);
+        }
+        Map<String, ResultStatistics> statistics = new LinkedHashMap<>();
+        for (Map.Entry<String, List<AlgorithmResult>> entry : byAlgorithm.entrySet()) {
+            statistics.put(entry.getKey(), summarize(entry.getKey(), entry.getValue()));
+        }
+        return statistics;
+    }
+
+    public ResultStatistics getStatistics(String algorithmName) {
+        List<AlgorithmResult> matching = new ArrayList<>();
+        for (AlgorithmResult result : results) {
+            if (result.getAlgorithmName().equals(algorithmName)) {
+                matching.add(result);
+            }
+        }
+        return matching.isEmpty() ? null : summarize(algorithmName, matching);
+    }
+
+    private static ResultStatistics summarize(String algorithmName, List<AlgorithmResult> runs) {
+        int n = runs.size();
+        long[] nanos = new long[n];
+        double totalNanos = 0;
+        double totalNodes = 0;
+        double totalBytes = 0;
+        for (int i = 0; i < n; i++) {
+            AlgorithmResult run = runs.get(i);
+            nanos[i] = run.getExecutionTimeNanos();
+            totalNanos += nanos[i];
+            totalNodes += run.getNodesExpanded();
+            totalBytes += run.getBytesAllocated();
+        }
+        Arrays.sort(nanos);
+        return new ResultStatistics(algorithmName, n, totalNanos / n, nanos[0],
+                percentile(nanos, 50), percentile(nanos, 90), percentile(nanos, 99), nanos[n - 1],
+                totalNodes / n, totalBytes / n);
+    }
+
+    // Percentil por rango más cercano sobre un arreglo ordenado
+    static long percentile(long[] sorted, double percent) {
+        int rank = (int) Math.ceil(percent / 100.0 * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))];
+    }
 }
@@ -0,0 +1,237 @@
+package src.solver;
+
+import src.models.Cell;
+import src.models.ExplorationTrace;
+import src.models.MazeGrid;
+import src.models.MazeSolution;
+import src.solver.engine.IntList;
+import src.solver.engine.VisitedSet;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+
+public abstract class AbstractMazeSolver implements MazeSolver {
+    // Base común para los solvers que trabajan sobre índices del grid compacto.
+    // El estado de la búsqueda (visitados y padres) vive en estructuras reutilizables de la
+    // instancia: el laberinto de entrada nunca se copia ni se modifica.
+    // Una instancia no debe usarse desde dos hilos a la vez.
+
+    protected static final int UP = 0;
+    protected static final int DOWN = 1;
+    protected static final int LEFT = 2;
+    protected static final int RIGHT = 3;
+
+    // Órdenes de exploración usados por los distintos solvers
+    protected static final int[] ORDER_UP_DOWN_LEFT_RIGHT = {UP, DOWN, LEFT, RIGHT};
+    protected static final int[] ORDER_RIGHT_LEFT_DOWN_UP = {RIGHT, LEFT, DOWN, UP};
+    protected static final int[] ORDER_CLOCKWISE = {UP, RIGHT, DOWN, LEFT};
+
+    protected final VisitedSet visited = new VisitedSet();
+    protected int[] parent = new int[0];
+
+    // Métricas de la última búsqueda; las implementaciones las actualizan
+    protected long nodesExpanded;
+    protected int peakFrontier;
+
+    // Cada cuántos nodos expandidos se avisa al monitor (potencia de 2 menos 1)
+    private static final int MONITOR_INTERVAL_MASK = 0xFFF;
+    protected SolveMonitor monitor = SolveMonitor.NONE;
+
+    // Grid compacto del último Cell[][] recibido: si se vuelve a resolver el mismo arreglo solo se
+    // sincronizan las celdas cambiadas, sin crear otro plano de paredes
+    private Cell[][] packedMaze;
+    private MazeGrid packedGrid;
+
+    private final IntList pathBuffer = new IntList();
+    private final IntList stepBuffer = new IntList();
+    // Solo durante solveTrace: los retrocesos se anotan en steps como ~celda (valor negativo)
+    private boolean tracing;
+
+    @Override
+    public void setMonitor(SolveMonitor monitor) {
+        this.monitor = monitor != null ? monitor : SolveMonitor.NONE;
+    }
+
+    // Recorre el grid desde start hacia end. Si steps no es null se llenan los pasos de exploración;
+    // si path no es null se llena el camino final (vacío si no hay camino).
+    protected abstract void search(MazeGrid grid, int start, int end, IntList steps, IntList path);
+
+    // Las variantes Cell[][] quedan por compatibilidad; el controlador y los benchmarks usan las de
+    // MazeGrid (mazePanel.getMazeGrid()), que no convierten nada
+    private MazeGrid packed(Cell[][] maze) {
+        if (maze != packedMaze || packedGrid.getRows() != maze.length || packedGrid.getCols() != maze[0].length) {
+            packedGrid = MazeGrid.fromCells(maze);
+            packedMaze = maze;
+        } else {
+            packedGrid.syncFromCells(maze);
+        }
+        return packedGrid;
+    }
+
+    @Override
+    public List<Cell> solve(Cell[][] maze, int startRow, int startCol, int endRow, int endCol) {
+        MazeGrid grid = packed(maze);
+        pathBuffer.clear();
+        search(grid, grid.index(startRow, startCol), grid.index(endRow, endCol), null, pathBuffer);
+        return toCellList(maze, pathBuffer);
+    }
+
+    @Override
+    public List<Cell> solveAndGetSteps(Cell[][] maze, int startRow, int startCol, int endRow, int endCol) {
+        MazeGrid grid = packed(maze);
+        stepBuffer.clear();
+        search(grid, grid.index(startRow, startCol), grid.index(endRow, endCol), stepBuffer, null);
+        return toCellList(maze, stepBuffer);
+    }
+
+    @Override
+    public List<Cell> solve(MazeGrid grid, int startRow, int startCol, int endRow, int endCol) {
+        pathBuffer.clear();
+        search(grid, grid.index(startRow, startCol), grid.index(endRow, endCol), null, pathBuffer);
+        return toCellList(grid, pathBuffer);
+    }
+
+    @Override
+    public List<Cell> solveAndGetSteps(MazeGrid grid, int startRow, int startCol, int endRow, int endCol) {
+        stepBuffer.clear();
+        search(grid, grid.index(startRow, startCol), grid.index(endRow, endCol), stepBuffer, null);
+        return toCellList(grid, stepBuffer);
+    }
+
+    // Una sola búsqueda llena a la vez los pasos y el camino
+    @Override
+    public MazeSolution solveWithSteps(Cell[][] maze, int startRow, int startCol, int endRow, int endCol) {
+        long begin = System.nanoTime();
+        MazeGrid grid = packed(maze);
+        stepBuffer.clear();
+        pathBuffer.clear();
+        search(grid, grid.index(startRow, startCol), grid.index(endRow, endCol), stepBuffer, pathBuffer);
+        long elapsed = System.nanoTime() - begin;
+        return new MazeSolution(getName(), toCellList(maze, stepBuffer), toCellList(maze, pathBuffer), stepBuffer.size(),
+                elapsed, nodesExpanded, peakFrontier);
+    }
+
+    @Override
+    public MazeSolution solveWithSteps(MazeGrid grid, int startRow, int startCol, int endRow, int endCol) {
+        long begin = System.nanoTime();
+        stepBuffer.clear();
+        pathBuffer.clear();
+        search(grid, grid.index(startRow, startCol), grid.index(endRow, endCol), stepBuffer, pathBuffer);
+        long elapsed = System.nanoTime() - begin;
+        return new MazeSolution(getName(), toCellList(grid, stepBuffer), toCellList(grid, pathBuffer), stepBuffer.size(),
+                elapsed, nodesExpanded, peakFrontier);
+    }
+
+    @Override
+    public MazeSolution solveTrace(MazeGrid grid, int startRow, int startCol, int endRow, int endCol) {
+        long begin = System.nanoTime();
+        stepBuffer.clear();
+        pathBuffer.clear();
+        tracing = true;
+        try {
+            search(grid, grid.index(startRow, startCol), grid.index(endRow, endCol), stepBuffer, pathBuffer);
+        } finally {
+            tracing = false;
+        }
+        long elapsed = System.nanoTime() - begin;
+
+        ExplorationTrace trace = new ExplorationTrace(grid.getRows(), grid.getCols(), stepBuffer.size() + pathBuffer.size());
+        for (int i = 0; i < stepBuffer.size(); i++) {
+            int step = stepBuffer.get(i);
+            if (step >= 0) {
+                trace.add(step, ExplorationTrace.VISIT);
+            } else {
+                trace.add(~step, ExplorationTrace.BACKTRACK);
+            }
+        }
+        for (int i = 0; i < pathBuffer.size(); i++) {
+            trace.add(pathBuffer.get(i), ExplorationTrace.PATH);
+        }
+        trace.trimToSize();
+        return new MazeSolution(getName(), trace, toCellList(grid, pathBuffer), elapsed, nodesExpanded, peakFrontier);
+    }
+
+    // --- Métodos auxiliares para las implementaciones ---
+
+    // Anota que la búsqueda retrocede desde `cell` (solo queda en la traza de solveTrace)
+    protected void recordBacktrack(IntList steps, int cell) {
+        if (tracing && steps != null) {
+            steps.add(~cell);
+        }
+    }
+
+    // Deja listo el overlay de visitados y el arreglo de padres para un grid de este tamaño
+    protected void prepare(MazeGrid grid) {
+        resetMetrics();
+        int size = grid.size();
+        visited.reset(size);
+        if (parent.length < size) {
+            parent = new int[size];
+        }
+    }
+
+    protected void resetMetrics() {
+        nodesExpanded = 0;
+        peakFrontier = 0;
+    }
+
+    // Cuenta un nodo expandido y, cada tanto, informa progreso y atiende la cancelación
+    protected void countExpansion() {
+        if ((++nodesExpanded & MONITOR_INTERVAL_MASK) == 0) {
+            monitor.progress(nodesExpanded);
+            if (monitor.isCancelled()) {
+                throw new CancellationException("Búsqueda cancelada: " + getName());
+            }
+        }
+    }
+
+    protected void trackFrontier(int frontierSize) {
+        if (frontierSize > peakFrontier) {
+            peakFrontier = frontierSize;
+        }
+    }
+
+    // Índice del vecino en la dirección dada, o NO_CELL si queda fuera del grid
+    protected static int neighbor(MazeGrid grid, int cell, int direction) {
+        int cols = grid.getCols();
+        switch (direction) {
+            case UP:
+                return cell >= cols ? cell - cols : MazeGrid.NO_CELL;
+            case DOWN:
+                return cell < grid.size() - cols ? cell + cols : MazeGrid.NO_CELL;
+            case LEFT:
+                return cell % cols > 0 ? cell - 1 : MazeGrid.NO_CELL;
+            default:
+                return cell % cols < cols - 1 ? cell + 1 : MazeGrid.NO_CELL;
+        }
+    }
+
+    // Reconstruye el camino start -> end siguiendo el arreglo de padres
+    protected void buildPath(int end, IntList out) {
+        out.clear();
+        for (int current = end; current != MazeGrid.NO_CELL; current = parent[current]) {
+            out.add(current);
+        }
+        out.reverse();
+    }
+
+    // Devuelve las celdas del laberinto original (sin crear copias)
+    protected static List<Cell> toCellList(Cell[][] maze, IntList indices) {
+        int cols = maze[0].length;
+        List<Cell> cells = new ArrayList<>(indices.size());
+        for (int i = 0; i < indices.size(); i++) {
+            int index = indices.get(i);
+            cells.add(maze[index / cols][index % cols]);
+        }
+        return cells;
+    }
+
+    protected static List<Cell> toCellList(MazeGrid grid, IntList indices) {
+        List<Cell> cells = new ArrayList<>(indices.size());
+        for (int i = 0; i < indices.size(); i++) {
+            cells.add(grid.toCell(indices.get(i)));
+        }
+        return cells;
+    }
+}
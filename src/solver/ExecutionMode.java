@@ -0,0 +1,7 @@
+package src.solver;
+
+public enum ExecutionMode {
+    // Cómo recorren el laberinto los solvers recursivos
+    RECURSIVE,      // Recursión de Java: una llamada por celda (limitada por la pila del hilo)
+    EXPLICIT_STACK  // Mismo orden de visita, con una pila propia en el heap (sin límite de profundidad)
+}
@@ -1,10 +1,70 @@
 package src.solver;
 
 import src.models.Cell;
+import src.models.ExplorationTrace;
+import src.models.MazeGrid;
+import src.models.MazeSolution;
 import java.util.List;
 
 public interface MazeSolver {
     String getName();
+
+    // Monitor de progreso/cancelación para las próximas búsquedas (por defecto se ignora).
+    // Al cancelarse, la búsqueda termina con java.util.concurrent.CancellationException.
+    default void setMonitor(SolveMonitor monitor) {
+    }
+
+    // Olvida el estado que el solver guarde entre búsquedas (solvers incrementales como LPA*):
+    // la próxima búsqueda empieza desde cero. Por defecto no hay nada que olvidar.
+    default void reset() {
+    }
+
+    // Variantes sobre el modelo de la vista; se mantienen por compatibilidad (AbstractMazeSolver
+    // reutiliza un grid compacto por arreglo). El resto del proyecto usa las variantes MazeGrid.
     List<Cell> solve(Cell[][] maze, int startRow, int startCol, int endRow, int endCol);
     List<Cell> solveAndGetSteps(Cell[][] maze, int startRow, int startCol, int endRow, int endCol);
-}
\ No newline at end of file
+
+    // Variantes sobre el grid compacto (mazePanel.getMazeGrid()).
+    // Por defecto se apoyan en la versión Cell[][]; los solvers pueden sobrescribirlas
+    // para trabajar directamente con índices.
+    default List<Cell> solve(MazeGrid grid, int startRow, int startCol, int endRow, int endCol) {
+        return solve(grid.toCells(), startRow, startCol, endRow, endCol);
+    }
+
+    default List<Cell> solveAndGetSteps(MazeGrid grid, int startRow, int startCol, int endRow, int endCol) {
+        return solveAndGetSteps(grid.toCells(), startRow, startCol, endRow, endCol);
+    }
+
+    // Exploración y camino en una sola llamada. La implementación por defecto ejecuta dos búsquedas;
+    // los solvers de AbstractMazeSolver la resuelven en una sola pasada.
+    default MazeSolution solveWithSteps(Cell[][] maze, int startRow, int startCol, int endRow, int endCol) {
+        long begin = System.nanoTime();
+        List<Cell> steps = solveAndGetSteps(maze, startRow, startCol, endRow, endCol);
+        List<Cell> path = solve(maze, startRow, startCol, endRow, endCol);
+        return new MazeSolution(getName(), steps, path, steps.size(), System.nanoTime() - begin);
+    }
+
+    default MazeSolution solveWithSteps(MazeGrid grid, int startRow, int startCol, int endRow, int endCol) {
+        long begin = System.nanoTime();
+        List<Cell> steps = solveAndGetSteps(grid, startRow, startCol, endRow, endCol);
+        List<Cell> path = solve(grid, startRow, startCol, endRow, endCol);
+        return new MazeSolution(getName(), steps, path, steps.size(), System.nanoTime() - begin);
+    }
+
+    // Exploración como traza compacta (índices + eventos) en lugar de List<Cell>.
+    // La implementación por defecto la arma a partir de solveWithSteps.
+    default MazeSolution solveTrace(MazeGrid grid, int startRow, int startCol, int endRow, int endCol) {
+        MazeSolution solution = solveWithSteps(grid, startRow, startCol, endRow, endCol);
+        List<Cell> steps = solution.getVisitedSteps();
+        ExplorationTrace trace = new ExplorationTrace(grid.getRows(), grid.getCols(), steps.size() + solution.getPath().size());
+        for (Cell cell : steps) {
+            trace.add(grid.index(cell.getRow(), cell.getCol()), ExplorationTrace.VISIT);
+        }
+        for (Cell cell : solution.getPath()) {
+            trace.add(grid.index(cell.getRow(), cell.getCol()), ExplorationTrace.PATH);
+        }
+        trace.trimToSize();
+        return new MazeSolution(getName(), trace, solution.getPath(), solution.getElapsedNanos(),
+                solution.getNodesExpanded(), solution.getPeakFrontier());
+    }
+}
@@ -0,0 +1,21 @@
+package src.solver;
+
+public interface SolveMonitor {
+    // Permite a quien lanza una búsqueda (p. ej. un SwingWorker) seguir su progreso
+    // y cancelarla de forma cooperativa. Los solvers lo consultan cada cierto número de nodos.
+
+    SolveMonitor NONE = new SolveMonitor() {
+        @Override
+        public boolean isCancelled() {
+            return false;
+        }
+
+        @Override
+        public void progress(long nodesExpanded) {
+        }
+    };
+
+    boolean isCancelled();
+
+    void progress(long nodesExpanded);
+}
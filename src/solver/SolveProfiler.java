@@ -0,0 +1,49 @@
+package src.solver;
+
+import src.models.AlgorithmResult;
+import src.models.MazeGrid;
+import src.models.MazeSolution;
+
+import java.lang.management.ManagementFactory;
+
+public final class SolveProfiler {
+    // Ejecuta un solver y arma un AlgorithmResult con las métricas de esa ejecución:
+    // tiempo en nanosegundos, nodos expandidos, frontera máxima y bytes asignados por el hilo.
+
+    private static final com.sun.management.ThreadMXBean THREAD_BEAN = initThreadBean();
+
+    private SolveProfiler() {
+    }
+
+    public static AlgorithmResult measure(MazeSolver solver, MazeGrid grid, int startRow, int startCol, int endRow, int endCol) {
+        long threadId = Thread.currentThread().getId();
+        long bytesBefore = allocatedBytes(threadId);
+        MazeSolution solution = solver.solveWithSteps(grid, startRow, startCol, endRow, endCol);
+        long bytes = bytesBefore < 0 ? 0 : allocatedBytes(threadId) - bytesBefore;
+        return toResult(solution, grid, bytes);
+    }
+
+    public static AlgorithmResult toResult(MazeSolution solution, MazeGrid grid, long bytesAllocated) {
+        return new AlgorithmResult(solution.getAlgorithmName(), solution.getPath().size(), solution.getElapsedNanos(),
+                solution.getNodesExpanded(), solution.getPeakFrontier(), bytesAllocated,
+                grid.getRows(), grid.getCols(), grid.getWallDensity(), System.currentTimeMillis());
+    }
+
+    // Bytes asignados por el hilo hasta ahora, o -1 si la JVM no lo soporta
+    public static long allocatedBytes(long threadId) {
+        return THREAD_BEAN != null ? THREAD_BEAN.getThreadAllocatedBytes(threadId) : -1;
+    }
+
+    private static com.sun.management.ThreadMXBean initThreadBean() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof com.sun.management.ThreadMXBean)) {
+            return null;
+        }
+        com.sun.management.ThreadMXBean sunBean = (com.sun.management.ThreadMXBean) bean;
+        if (!sunBean.isThreadAllocatedMemorySupported()) {
+            return null;
+        }
+        sunBean.setThreadAllocatedMemoryEnabled(true);
+        return sunBean;
+    }
+}
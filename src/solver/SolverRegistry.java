@@ -0,0 +1,53 @@
+package src.solver;
+
+import src.solver.engine.Heuristic;
+import src.solver.solverImpl.MazeSolverAStar;
+import src.solver.solverImpl.MazeSolverBFS;
+import src.solver.solverImpl.MazeSolverBidirectionalBFS;
+import src.solver.solverImpl.MazeSolverDFS;
+import src.solver.solverImpl.MazeSolverJPS;
+import src.solver.solverImpl.MazeSolverLPAStar;
+import src.solver.solverImpl.MazeSolverParallelBFS;
+import src.solver.solverImpl.MazeSolverRecursivo;
+import src.solver.solverImpl.MazeSolverRecursivoCompleto;
+import src.solver.solverImpl.MazeSolverRecursivoCompletoBT;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+public final class SolverRegistry {
+    // Lista única de algoritmos disponibles (nombre mostrado -> fábrica), en el orden del combo box.
+    // La usan el controlador, la vista y los benchmarks.
+    private static final Map<String, Supplier<MazeSolver>> SOLVERS = new LinkedHashMap<>();
+
+    static {
+        SOLVERS.put("BFS", MazeSolverBFS::new);
+        SOLVERS.put("DFS", MazeSolverDFS::new);
+        SOLVERS.put("Recursivo", MazeSolverRecursivo::new);
+        SOLVERS.put("Recursivo Completo", MazeSolverRecursivoCompleto::new);
+        SOLVERS.put("Recursivo Completo BT", MazeSolverRecursivoCompletoBT::new);
+        SOLVERS.put("A* Manhattan", () -> new MazeSolverAStar(Heuristic.MANHATTAN));
+        SOLVERS.put("A* Octil", () -> new MazeSolverAStar(Heuristic.OCTILE));
+        SOLVERS.put("A* Cero", () -> new MazeSolverAStar(Heuristic.ZERO));
+        SOLVERS.put("BFS Bidireccional", MazeSolverBidirectionalBFS::new);
+        SOLVERS.put("JPS", MazeSolverJPS::new);
+        SOLVERS.put("BFS Paralelo", MazeSolverParallelBFS::new);
+        SOLVERS.put("LPA* Incremental", MazeSolverLPAStar::new);
+    }
+
+    private SolverRegistry() {
+    }
+
+    public static List<String> getNames() {
+        return new ArrayList<>(SOLVERS.keySet());
+    }
+
+    // Devuelve una instancia nueva o null si el algoritmo no existe
+    public static MazeSolver create(String name) {
+        Supplier<MazeSolver> factory = SOLVERS.get(name);
+        return factory != null ? factory.get() : null;
+    }
+}
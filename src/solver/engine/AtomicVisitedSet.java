@@ -0,0 +1,40 @@
+package src.solver.engine;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class AtomicVisitedSet {
+    // Bitset de visitados seguro entre hilos: marcar una celda es un CAS sobre su palabra,
+    // así que exactamente un hilo "gana" cada celda. Reutilizable entre búsquedas (solo crece).
+    private AtomicLongArray words = new AtomicLongArray(0);
+
+    // No debe llamarse mientras otros hilos usan el conjunto
+    public void reset(int size) {
+        int needed = (size + 63) >>> 6;
+        if (words.length() < needed) {
+            words = new AtomicLongArray(needed);
+        } else {
+            for (int i = 0; i < needed; i++) {
+                words.set(i, 0L);
+            }
+        }
+    }
+
+    public boolean contains(int index) {
+        return (words.get(index >>> 6) & (1L << index)) != 0;
+    }
+
+    // Marca la celda y devuelve true solo para el hilo que la marcó primero
+    public boolean addIfAbsent(int index) {
+        int wordIndex = index >>> 6;
+        long bit = 1L << index;
+        while (true) {
+            long word = words.get(wordIndex);
+            if ((word & bit) != 0) {
+                return false;
+            }
+            if (words.compareAndSet(wordIndex, word, word | bit)) {
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package src.solver.engine;
+
+import src.models.MazeGrid;
+import src.solver.SolveMonitor;
+
+import java.util.concurrent.CancellationException;
+
+public class BFSEngine {
+    // BFS sobre índices primitivos: cola circular de int, arreglo de padres y bitset de visitados.
+    // Todas las estructuras se reutilizan entre búsquedas, así que una vez "caliente"
+    // la búsqueda no genera basura.
+    private final IntQueue queue = new IntQueue();
+    private final VisitedSet visited = new VisitedSet();
+    private int[] parent = new int[0];
+    private int nodesExpanded;
+    private int peakFrontier;
+    private SolveMonitor monitor = SolveMonitor.NONE;
+
+    public void setMonitor(SolveMonitor monitor) {
+        this.monitor = monitor != null ? monitor : SolveMonitor.NONE;
+    }
+
+    // Ejecuta la búsqueda desde start hasta end. Si steps no es null se llena con el orden
+    // de descubrimiento (mismo criterio que MazeSolverBFS.solveAndGetSteps).
+    public boolean search(MazeGrid grid, int start, int end, IntList steps) {
+        int size = grid.size();
+        int cols = grid.getCols();
+        if (parent.length < size) {
+            parent = new int[size];
+        }
+        queue.reset(size);
+        visited.reset(size);
+        nodesExpanded = 0;
+        peakFrontier = 1;
+
+        parent[start] = MazeGrid.NO_CELL;
+        visited.add(start);
+        queue.add(start);
+        if (steps != null) steps.add(start);
+
+        while (!queue.isEmpty()) {
+            int current = queue.poll();
+            if (current == end) {
+                return true;
+            }
+            if ((++nodesExpanded & 0xFFF) == 0) {
+                monitor.progress(nodesExpanded);
+                if (monitor.isCancelled()) {
+                    throw new CancellationException("Búsqueda BFS cancelada");
+                }
+            }
+
+            // Orden de exploración: Arriba, Abajo, Izquierda, Derecha
+            int col = current % cols;
+            if (current >= cols) visit(grid, current, current - cols, start, end, steps);
+            if (current < size - cols) visit(grid, current, current + cols, start, end, steps);
+            if (col > 0) visit(grid, current, current - 1, start, end, steps);
+            if (col < cols - 1) visit(grid, current, current + 1, start, end, steps);
+            if (queue.size() > peakFrontier) peakFrontier = queue.size();
+        }
+        return false;
+    }
+
+    private void visit(MazeGrid grid, int from, int neighbor, int start, int end, IntList steps) {
+        if (!grid.isWall(neighbor) && visited.addIfAbsent(neighbor)) {
+            parent[neighbor] = from;
+            queue.add(neighbor);
+            if (steps != null && neighbor != start && neighbor != end) {
+                steps.add(neighbor);
+            }
+        }
+    }
+
+    // Escribe en out el camino start -> end de la última búsqueda exitosa
+    public void buildPath(int end, IntList out) {
+        out.clear();
+        for (int current = end; current != MazeGrid.NO_CELL; current = parent[current]) {
+            out.add(current);
+        }
+        out.reverse();
+    }
+
+    public int getNodesExpanded() {
+        return nodesExpanded;
+    }
+
+    public int getPeakFrontier() {
+        return peakFrontier;
+    }
+}
@@ -0,0 +1,38 @@
+package src.solver.engine;
+
+public enum Heuristic {
+    // Estimaciones admisibles de la distancia restante en un grid de 4 vecinos
+    MANHATTAN("Manhattan") {
+        @Override
+        public double estimate(int dRow, int dCol) {
+            return dRow + dCol;
+        }
+    },
+    OCTILE("Octil") {
+        @Override
+        public double estimate(int dRow, int dCol) {
+            return Math.max(dRow, dCol) + (SQRT2 - 1) * Math.min(dRow, dCol);
+        }
+    },
+    ZERO("Cero") {
+        @Override
+        public double estimate(int dRow, int dCol) {
+            return 0; // Equivale a Dijkstra/BFS
+        }
+    };
+
+    private static final double SQRT2 = Math.sqrt(2);
+
+    private final String label;
+
+    Heuristic(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    // dRow y dCol son diferencias absolutas hasta el destino
+    public abstract double estimate(int dRow, int dCol);
+}
@@ -0,0 +1,143 @@
+package src.solver.engine;
+
+import java.util.Arrays;
+
+public class IndexedMinHeap {
+    // Montículo binario de índices de celda con prioridad (clave principal + desempate).
+    // position[cell] permite decrease-key en O(log n) sin objetos por nodo.
+    // A igual clave sale primero el de mayor desempate (p. ej. mayor g en A*).
+    private int[] heap = new int[16];
+    private double[] keys = new double[16];
+    private int[] ties = new int[16];
+    private int[] position = new int[0];
+    private int size;
+
+    // Prepara el montículo vacío para celdas en [0, capacity)
+    public void reset(int capacity) {
+        if (position.length < capacity) {
+            position = new int[capacity];
+            Arrays.fill(position, -1);
+        } else {
+            // Solo quedan marcadas las celdas que seguían en el montículo
+            for (int i = 0; i < size; i++) {
+                position[heap[i]] = -1;
+            }
+        }
+        size = 0;
+    }
+
+    public boolean isEmpty() { return size == 0; }
+    public int size() { return size; }
+
+    public boolean contains(int cell) {
+        return position[cell] >= 0;
+    }
+
+    // Inserta la celda o, si ya está, reduce su prioridad (nunca la aumenta)
+    public void insertOrDecrease(int cell, double key, int tie) {
+        int i = position[cell];
+        if (i < 0) {
+            if (size == heap.length) {
+                int capacity = size * 2;
+                heap = Arrays.copyOf(heap, capacity);
+                keys = Arrays.copyOf(keys, capacity);
+                ties = Arrays.copyOf(ties, capacity);
+            }
+            i = size++;
+            heap[i] = cell;
+            keys[i] = key;
+            ties[i] = tie;
+            position[cell] = i;
+            siftUp(i);
+        } else if (less(key, tie, keys[i], ties[i])) {
+            keys[i] = key;
+            ties[i] = tie;
+            siftUp(i);
+        }
+    }
+
+    public int peek() {
+        return heap[0];
+    }
+
+    public double peekKey() {
+        return keys[0];
+    }
+
+    public int peekTie() {
+        return ties[0];
+    }
+
+    public int poll() {
+        int top = heap[0];
+        position[top] = -1;
+        size--;
+        if (size > 0) {
+            move(size, 0);
+            siftDown(0);
+        }
+        return top;
+    }
+
+    // Elimina una celda cualquiera del montículo (si está)
+    public void remove(int cell) {
+        int i = position[cell];
+        if (i < 0) return;
+        position[cell] = -1;
+        size--;
+        if (i != size) {
+            int moved = heap[size];
+            move(size, i);
+            siftDown(i);
+            siftUp(position[moved]);
+        }
+    }
+
+    private static boolean less(double keyA, int tieA, double keyB, int tieB) {
+        return keyA < keyB || (keyA == keyB && tieA > tieB);
+    }
+
+    private void siftUp(int i) {
+        int cell = heap[i];
+        double key = keys[i];
+        int tie = ties[i];
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!less(key, tie, keys[parent], ties[parent])) break;
+            move(parent, i);
+            i = parent;
+        }
+        heap[i] = cell;
+        keys[i] = key;
+        ties[i] = tie;
+        position[cell] = i;
+    }
+
+    private void siftDown(int i) {
+        int cell = heap[i];
+        double key = keys[i];
+        int tie = ties[i];
+        int half = size >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            int right = child + 1;
+            if (right < size && less(keys[right], ties[right], keys[child], ties[child])) {
+                child = right;
+            }
+            if (!less(keys[child], ties[child], key, tie)) break;
+            move(child, i);
+            i = child;
+        }
+        heap[i] = cell;
+        keys[i] = key;
+        ties[i] = tie;
+        position[cell] = i;
+    }
+
+    private void move(int from, int to) {
+        heap[to] = heap[from];
+        keys[to] = keys[from];
+        ties[to] = ties[from];
+        position[heap[to]] = to;
+    }
+}
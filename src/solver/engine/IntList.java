@@ -0,0 +1,60 @@
+package src.solver.engine;
+
+import java.util.Arrays;
+
+public class IntList {
+    // Lista de enteros primitivos (índices de celda), sin boxing
+    private int[] data;
+    private int size;
+
+    public IntList() {
+        this(16);
+    }
+
+    public IntList(int initialCapacity) {
+        data = new int[Math.max(1, initialCapacity)];
+    }
+
+    public void add(int value) {
+        if (size == data.length) {
+            data = Arrays.copyOf(data, data.length * 2);
+        }
+        data[size++] = value;
+    }
+
+    // Agrega todos los elementos de otra lista al final
+    public void addAll(IntList other) {
+        int needed = size + other.size;
+        if (needed > data.length) {
+            data = Arrays.copyOf(data, Math.max(needed, data.length * 2));
+        }
+        System.arraycopy(other.data, 0, data, size, other.size);
+        size = needed;
+    }
+
+    public int get(int i) { return data[i]; }
+    public void set(int i, int value) { data[i] = value; }
+    public int size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+    public void clear() { size = 0; }
+
+    public int removeLast() {
+        return data[--size];
+    }
+
+    public int last() {
+        return data[size - 1];
+    }
+
+    public void reverse() {
+        for (int i = 0, j = size - 1; i < j; i++, j--) {
+            int tmp = data[i];
+            data[i] = data[j];
+            data[j] = tmp;
+        }
+    }
+
+    public int[] toArray() {
+        return Arrays.copyOf(data, size);
+    }
+}
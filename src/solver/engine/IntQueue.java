@@ -0,0 +1,48 @@
+package src.solver.engine;
+
+public class IntQueue {
+    // Cola FIFO de enteros sobre un buffer circular; se reutiliza entre búsquedas
+    private int[] buffer = new int[16];
+    private int head;
+    private int tail;
+    private int size;
+
+    // Prepara la cola vacía con espacio para al menos `capacity` elementos
+    public void reset(int capacity) {
+        if (buffer.length < capacity) {
+            buffer = new int[Math.max(capacity, buffer.length * 2)];
+        }
+        head = 0;
+        tail = 0;
+        size = 0;
+    }
+
+    public void add(int value) {
+        if (size == buffer.length) {
+            grow();
+        }
+        buffer[tail] = value;
+        tail = tail + 1 == buffer.length ? 0 : tail + 1;
+        size++;
+    }
+
+    public int poll() {
+        int value = buffer[head];
+        head = head + 1 == buffer.length ? 0 : head + 1;
+        size--;
+        return value;
+    }
+
+    public boolean isEmpty() { return size == 0; }
+    public int size() { return size; }
+
+    private void grow() {
+        int[] bigger = new int[buffer.length * 2];
+        for (int i = 0; i < size; i++) {
+            bigger[i] = buffer[(head + i) % buffer.length];
+        }
+        buffer = bigger;
+        head = 0;
+        tail = size;
+    }
+}
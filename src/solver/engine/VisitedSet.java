@@ -0,0 +1,36 @@
+package src.solver.engine;
+
+import java.util.Arrays;
+
+public class VisitedSet {
+    // Bitset de celdas visitadas, reutilizable entre búsquedas (solo crece)
+    private long[] words = new long[0];
+
+    public void reset(int size) {
+        int needed = (size + 63) >>> 6;
+        if (words.length < needed) {
+            words = new long[needed];
+        } else {
+            Arrays.fill(words, 0, needed, 0L);
+        }
+    }
+
+    public boolean contains(int index) {
+        return (words[index >>> 6] & (1L << index)) != 0;
+    }
+
+    public void add(int index) {
+        words[index >>> 6] |= 1L << index;
+    }
+
+    // Marca la celda y devuelve true si no estaba marcada
+    public boolean addIfAbsent(int index) {
+        long bit = 1L << index;
+        long word = words[index >>> 6];
+        if ((word & bit) != 0) {
+            return false;
+        }
+        words[index >>> 6] = word | bit;
+        return true;
+    }
+}
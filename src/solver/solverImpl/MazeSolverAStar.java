@@ -0,0 +1,89 @@
+package src.solver.solverImpl;
+
+import src.models.MazeGrid;
+import src.solver.AbstractMazeSolver;
+import src.solver.engine.Heuristic;
+import src.solver.engine.IndexedMinHeap;
+import src.solver.engine.IntList;
+import src.solver.engine.VisitedSet;
+
+public class MazeSolverAStar extends AbstractMazeSolver {
+
+    private final Heuristic heuristic;
+
+    // Estructuras reutilizables: lista abierta indexada, costo g y conjunto de descubiertos
+    private final IndexedMinHeap open = new IndexedMinHeap();
+    private final VisitedSet discovered = new VisitedSet();
+    private int[] gScore = new int[0];
+
+    public MazeSolverAStar() {
+        this(Heuristic.MANHATTAN);
+    }
+
+    public MazeSolverAStar(Heuristic heuristic) {
+        this.heuristic = heuristic;
+    }
+
+    @Override
+    public String getName() {
+        return "A* " + heuristic.getLabel();
+    }
+
+    public Heuristic getHeuristic() {
+        return heuristic;
+    }
+
+    // Los pasos son las celdas expandidas (cerradas) en orden; el overlay `visited` es la lista cerrada
+    @Override
+    protected void search(MazeGrid grid, int start, int end, IntList steps, IntList path) {
+        prepare(grid);
+        int size = grid.size();
+        open.reset(size);
+        discovered.reset(size);
+        if (gScore.length < size) {
+            gScore = new int[size];
+        }
+
+        int cols = grid.getCols();
+        int endRow = end / cols;
+        int endCol = end % cols;
+
+        discovered.add(start);
+        gScore[start] = 0;
+        parent[start] = MazeGrid.NO_CELL;
+        open.insertOrDecrease(start, estimate(start, cols, endRow, endCol), 0);
+
+        while (!open.isEmpty()) {
+            trackFrontier(open.size());
+            int current = open.poll();
+
+            if (current == end) {
+                if (path != null) buildPath(end, path);
+                return;
+            }
+
+            visited.add(current);
+            countExpansion();
+            if (steps != null) steps.add(current);
+
+            int nextG = gScore[current] + 1;
+            for (int direction : ORDER_UP_DOWN_LEFT_RIGHT) {
+                int neighbor = neighbor(grid, current, direction);
+                if (neighbor == MazeGrid.NO_CELL || grid.isWall(neighbor) || visited.contains(neighbor)) {
+                    continue;
+                }
+                if (discovered.addIfAbsent(neighbor) || nextG < gScore[neighbor]) {
+                    gScore[neighbor] = nextG;
+                    parent[neighbor] = current;
+                    // A igual f se prefiere el de mayor g: en zonas abiertas avanza en línea recta
+                    open.insertOrDecrease(neighbor, nextG + estimate(neighbor, cols, endRow, endCol), nextG);
+                }
+            }
+        }
+        // No se encontró camino
+    }
+
+    private double estimate(int cell, int cols, int endRow, int endCol) {
+        return heuristic.estimate(Math.abs(cell / cols - endRow), Math.abs(cell % cols - endCol));
+    }
+}
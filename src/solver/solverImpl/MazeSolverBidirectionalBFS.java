@@ -0,0 +1,106 @@
+package src.solver.solverImpl;
+
+import src.models.MazeGrid;
+import src.solver.AbstractMazeSolver;
+import src.solver.engine.IntList;
+import src.solver.engine.IntQueue;
+import src.solver.engine.VisitedSet;
+
+public class MazeSolverBidirectionalBFS extends AbstractMazeSolver {
+
+    // Frente desde el inicio: usa `visited` y `parent` de la clase base.
+    // Frente desde el fin: estructuras propias. Todo se reutiliza entre búsquedas.
+    private final IntQueue forwardQueue = new IntQueue();
+    private final IntQueue backwardQueue = new IntQueue();
+    private final VisitedSet backwardVisited = new VisitedSet();
+    private int[] backwardParent = new int[0];
+    private int[] forwardDepth = new int[0];
+    private int[] backwardDepth = new int[0];
+
+    private int meetCell;
+    private int bestLength;
+
+    @Override
+    public String getName() {
+        return "BFS Bidireccional";
+    }
+
+    @Override
+    protected void search(MazeGrid grid, int start, int end, IntList steps, IntList path) {
+        prepare(grid);
+        int size = grid.size();
+        forwardQueue.reset(size);
+        backwardQueue.reset(size);
+        backwardVisited.reset(size);
+        if (backwardParent.length < size) {
+            backwardParent = new int[size];
+            forwardDepth = new int[size];
+            backwardDepth = new int[size];
+        }
+
+        if (steps != null) steps.add(start);
+        if (start == end) {
+            if (path != null) path.add(start);
+            return;
+        }
+
+        visited.add(start);
+        parent[start] = MazeGrid.NO_CELL;
+        forwardDepth[start] = 0;
+        forwardQueue.add(start);
+
+        backwardVisited.add(end);
+        backwardParent[end] = MazeGrid.NO_CELL;
+        backwardDepth[end] = 0;
+        backwardQueue.add(end);
+
+        meetCell = MazeGrid.NO_CELL;
+        bestLength = Integer.MAX_VALUE;
+
+        // Se expande siempre el frente más pequeño, un nivel completo a la vez,
+        // hasta que ambos frentes se tocan
+        while (!forwardQueue.isEmpty() && !backwardQueue.isEmpty() && meetCell == MazeGrid.NO_CELL) {
+            trackFrontier(forwardQueue.size() + backwardQueue.size());
+            if (forwardQueue.size() <= backwardQueue.size()) {
+                expandLevel(grid, forwardQueue, visited, parent, forwardDepth,
+                        backwardVisited, backwardDepth, start, end, steps);
+            } else {
+                expandLevel(grid, backwardQueue, backwardVisited, backwardParent, backwardDepth,
+                        visited, forwardDepth, start, end, steps);
+            }
+        }
+
+        if (meetCell != MazeGrid.NO_CELL && path != null) {
+            buildPath(meetCell, path); // inicio -> punto de encuentro
+            for (int current = backwardParent[meetCell]; current != MazeGrid.NO_CELL; current = backwardParent[current]) {
+                path.add(current); // punto de encuentro -> fin
+            }
+        }
+    }
+
+    private void expandLevel(MazeGrid grid, IntQueue queue, VisitedSet ownVisited, int[] ownParent, int[] ownDepth,
+                             VisitedSet otherVisited, int[] otherDepth, int start, int end, IntList steps) {
+        // El nivel se termina completo para quedarse con el encuentro de menor longitud total
+        for (int remaining = queue.size(); remaining > 0; remaining--) {
+            int current = queue.poll();
+            countExpansion();
+            int nextDepth = ownDepth[current] + 1;
+            for (int direction : ORDER_UP_DOWN_LEFT_RIGHT) {
+                int neighbor = neighbor(grid, current, direction);
+                if (neighbor == MazeGrid.NO_CELL || grid.isWall(neighbor) || !ownVisited.addIfAbsent(neighbor)) {
+                    continue;
+                }
+                ownParent[neighbor] = current;
+                ownDepth[neighbor] = nextDepth;
+                queue.add(neighbor);
+                if (steps != null && neighbor != start && neighbor != end) {
+                    steps.add(neighbor);
+                }
+                if (otherVisited.contains(neighbor) && nextDepth + otherDepth[neighbor] < bestLength) {
+                    bestLength = nextDepth + otherDepth[neighbor];
+                    meetCell = neighbor;
+                }
+            }
+        }
+    }
+}
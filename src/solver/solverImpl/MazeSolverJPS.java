@@ -0,0 +1,147 @@
+package src.solver.solverImpl;
+
+import src.models.MazeGrid;
+import src.solver.AbstractMazeSolver;
+import src.solver.engine.IndexedMinHeap;
+import src.solver.engine.IntList;
+import src.solver.engine.VisitedSet;
+
+public class MazeSolverJPS extends AbstractMazeSolver {
+    // Jump Point Search para grids de 4 vecinos con costo uniforme.
+    // En lugar de añadir cada vecino a la lista abierta, avanza en línea recta ("salta")
+    // hasta una celda donde realmente cambia algo (objetivo, vecino forzado por una pared
+    // o, en saltos verticales, un salto horizontal que encuentra algo). Solo esos puntos
+    // de salto se expanden con A*.
+
+    private final IndexedMinHeap open = new IndexedMinHeap();
+    private final VisitedSet discovered = new VisitedSet();
+    private int[] gScore = new int[0];
+    private final IntList jumpPoints = new IntList();
+
+    @Override
+    public String getName() {
+        return "JPS";
+    }
+
+    // Los pasos son los puntos de salto expandidos, en orden
+    @Override
+    protected void search(MazeGrid grid, int start, int end, IntList steps, IntList path) {
+        prepare(grid);
+        int size = grid.size();
+        open.reset(size);
+        discovered.reset(size);
+        if (gScore.length < size) {
+            gScore = new int[size];
+        }
+
+        int cols = grid.getCols();
+        discovered.add(start);
+        gScore[start] = 0;
+        parent[start] = MazeGrid.NO_CELL;
+        open.insertOrDecrease(start, distance(start, end, cols), 0);
+
+        while (!open.isEmpty()) {
+            trackFrontier(open.size());
+            int current = open.poll();
+
+            if (current == end) {
+                if (path != null) buildStraightPath(end, cols, path);
+                return;
+            }
+
+            visited.add(current);
+            countExpansion();
+            if (steps != null) steps.add(current);
+
+            int from = parent[current];
+            for (int direction : ORDER_UP_DOWN_LEFT_RIGHT) {
+                // Nunca se vuelve hacia el punto de salto anterior
+                if (from != MazeGrid.NO_CELL && direction == directionTowards(current, from, cols)) {
+                    continue;
+                }
+                int jumpPoint = jump(grid, current, direction, end);
+                if (jumpPoint == MazeGrid.NO_CELL || visited.contains(jumpPoint)) {
+                    continue;
+                }
+                int nextG = gScore[current] + distance(current, jumpPoint, cols);
+                if (discovered.addIfAbsent(jumpPoint) || nextG < gScore[jumpPoint]) {
+                    gScore[jumpPoint] = nextG;
+                    parent[jumpPoint] = current;
+                    open.insertOrDecrease(jumpPoint, nextG + distance(jumpPoint, end, cols), nextG);
+                }
+            }
+        }
+        // No se encontró camino
+    }
+
+    // Avanza desde `from` en la dirección dada hasta el siguiente punto de salto (o NO_CELL)
+    private int jump(MazeGrid grid, int from, int direction, int end) {
+        boolean horizontal = direction == LEFT || direction == RIGHT;
+        int current = from;
+        while (true) {
+            int next = neighbor(grid, current, direction);
+            if (next == MazeGrid.NO_CELL || grid.isWall(next)) {
+                return MazeGrid.NO_CELL;
+            }
+            if (next == end) {
+                return next;
+            }
+            if (horizontal) {
+                // Vecino forzado: arriba/abajo se abre justo después de una pared
+                if ((isOpen(grid, next, UP) && !isOpen(grid, current, UP)) ||
+                        (isOpen(grid, next, DOWN) && !isOpen(grid, current, DOWN))) {
+                    return next;
+                }
+            } else {
+                if ((isOpen(grid, next, LEFT) && !isOpen(grid, current, LEFT)) ||
+                        (isOpen(grid, next, RIGHT) && !isOpen(grid, current, RIGHT))) {
+                    return next;
+                }
+                // En saltos verticales, la celda es punto de salto si un salto horizontal encuentra algo
+                if (jump(grid, next, LEFT, end) != MazeGrid.NO_CELL || jump(grid, next, RIGHT, end) != MazeGrid.NO_CELL) {
+                    return next;
+                }
+            }
+            current = next;
+        }
+    }
+
+    private static boolean isOpen(MazeGrid grid, int cell, int direction) {
+        int next = neighbor(grid, cell, direction);
+        return next != MazeGrid.NO_CELL && !grid.isWall(next);
+    }
+
+    // Dirección del paso unitario que va de `from` hacia `to` (están en la misma fila o columna)
+    private static int directionTowards(int from, int to, int cols) {
+        if (from / cols == to / cols) {
+            return to > from ? RIGHT : LEFT;
+        }
+        return to > from ? DOWN : UP;
+    }
+
+    private static int distance(int a, int b, int cols) {
+        return Math.abs(a / cols - b / cols) + Math.abs(a % cols - b % cols); // Manhattan
+    }
+
+    // Une los puntos de salto con los tramos rectos intermedios
+    private void buildStraightPath(int end, int cols, IntList out) {
+        buildPath(end, jumpPoints);
+        out.clear();
+        out.add(jumpPoints.get(0));
+        for (int i = 1; i < jumpPoints.size(); i++) {
+            int from = jumpPoints.get(i - 1);
+            int to = jumpPoints.get(i);
+            int step;
+            switch (directionTowards(from, to, cols)) {
+                case UP: step = -cols; break;
+                case DOWN: step = cols; break;
+                case LEFT: step = -1; break;
+                default: step = 1; break;
+            }
+            for (int cell = from + step; cell != to; cell += step) {
+                out.add(cell);
+            }
+            out.add(to);
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package src.solver.solverImpl;
+
+import src.models.MazeGrid;
+import src.solver.AbstractMazeSolver;
+import src.solver.engine.Heuristic;
+import src.solver.engine.IndexedMinHeap;
+import src.solver.engine.IntList;
+
+import java.util.Arrays;
+
+public class MazeSolverLPAStar extends AbstractMazeSolver {
+    // Lifelong Planning A* (Koenig y Likhachev): búsqueda incremental. Guarda entre llamadas
+    // g (distancia ya calculada) y rhs (distancia según los vecinos) de cada celda, la lista
+    // abierta y una copia de las paredes. En la siguiente llamada compara las palabras de paredes
+    // con esa copia y solo vuelve a procesar las celdas afectadas por las paredes que cambiaron,
+    // en vez de buscar de nuevo desde cero.
+    //
+    // Si cambian las dimensiones, el inicio o el fin, el estado se descarta y se busca desde cero.
+    // Los pasos son las celdas que quedaron con distancia nueva en esta llamada; las que
+    // perdieron su distancia (la pared nueva cortó su camino) se anotan como retrocesos.
+
+    private static final int INF = Integer.MAX_VALUE / 2;
+
+    private final Heuristic heuristic = Heuristic.MANHATTAN;
+
+    // Clave de la lista abierta: (min(g, rhs) + h, min(g, rhs)). IndexedMinHeap saca primero
+    // el mayor desempate, por eso el segundo componente va negado.
+    private final IndexedMinHeap open = new IndexedMinHeap();
+    private int[] g = new int[0];
+    private int[] rhs = new int[0];
+    private long[] wallsSnapshot = new long[0];
+
+    // Problema para el que vale el estado guardado (valid == false: hay que empezar de cero)
+    private boolean valid;
+    private int rows;
+    private int cols;
+    private int startCell;
+    private int endCell;
+    private int endRow;
+    private int endCol;
+
+    private MazeGrid grid;
+    private IntList steps;
+
+    @Override
+    public String getName() {
+        return "LPA* Incremental";
+    }
+
+    @Override
+    public void reset() {
+        valid = false;
+    }
+
+    @Override
+    protected void search(MazeGrid grid, int start, int end, IntList steps, IntList path) {
+        resetMetrics();
+        this.grid = grid;
+        this.steps = steps;
+        try {
+            if (valid && grid.getRows() == rows && grid.getCols() == cols && start == startCell && end == endCell) {
+                valid = false; // Si la búsqueda se interrumpe, la próxima empieza de cero
+                applyWallChanges();
+            } else {
+                initialize(grid, start, end);
+            }
+            computeShortestPath();
+            valid = true;
+            if (path != null) buildPath(path);
+        } finally {
+            this.grid = null;
+            this.steps = null;
+        }
+    }
+
+    private void initialize(MazeGrid grid, int start, int end) {
+        int size = grid.size();
+        rows = grid.getRows();
+        cols = grid.getCols();
+        startCell = start;
+        endCell = end;
+        endRow = end / cols;
+        endCol = end % cols;
+        if (g.length < size) {
+            g = new int[size];
+            rhs = new int[size];
+        }
+        Arrays.fill(g, 0, size, INF);
+        Arrays.fill(rhs, 0, size, INF);
+        open.reset(size);
+
+        int words = grid.wordCount();
+        if (wallsSnapshot.length < words) {
+            wallsSnapshot = new long[words];
+        }
+        for (int w = 0; w < words; w++) {
+            wallsSnapshot[w] = grid.getWallWord(w);
+        }
+
+        rhs[start] = 0;
+        insert(start);
+    }
+
+    // Cada celda que pasó a ser (o dejó de ser) pared cambia sus cuatro aristas
+    private void applyWallChanges() {
+        for (int w = 0, words = grid.wordCount(); w < words; w++) {
+            long current = grid.getWallWord(w);
+            long changed = wallsSnapshot[w] ^ current;
+            wallsSnapshot[w] = current;
+            while (changed != 0) {
+                int cell = (w << 6) + Long.numberOfTrailingZeros(changed);
+                changed &= changed - 1;
+                updateCell(cell);
+                for (int direction : ORDER_UP_DOWN_LEFT_RIGHT) {
+                    int neighbor = neighbor(grid, cell, direction);
+                    if (neighbor != MazeGrid.NO_CELL) updateCell(neighbor);
+                }
+            }
+        }
+    }
+
+    private void computeShortestPath() {
+        while (!open.isEmpty() && (topBeforeEnd() || rhs[endCell] != g[endCell])) {
+            trackFrontier(open.size());
+            countExpansion(); // Antes de sacar la celda: una cancelación no deja el estado a medias
+            int current = open.poll();
+            if (g[current] > rhs[current]) {
+                // Sobreconsistente: la distancia mejoró y queda fija
+                g[current] = rhs[current];
+                if (steps != null) steps.add(current);
+                relaxNeighbors(current);
+            } else {
+                // Subconsistente: la distancia empeoró; se invalida y se recalcula
+                g[current] = INF;
+                updateCell(current);
+                recordBacktrack(steps, current);
+                for (int direction : ORDER_UP_DOWN_LEFT_RIGHT) {
+                    int neighbor = neighbor(grid, current, direction);
+                    if (neighbor != MazeGrid.NO_CELL) updateCell(neighbor);
+                }
+            }
+        }
+    }
+
+    // Si g bajó, rhs de los vecinos solo puede bajar: alcanza con comparar contra g + 1
+    // en lugar de recalcular el mínimo sobre los cuatro vecinos
+    private void relaxNeighbors(int cell) {
+        int candidate = g[cell] + 1;
+        for (int direction : ORDER_UP_DOWN_LEFT_RIGHT) {
+            int neighbor = neighbor(grid, cell, direction);
+            if (neighbor == MazeGrid.NO_CELL || neighbor == startCell || grid.isWall(neighbor) ||
+                    candidate >= rhs[neighbor]) {
+                continue;
+            }
+            rhs[neighbor] = candidate;
+            if (g[neighbor] == rhs[neighbor]) {
+                open.remove(neighbor);
+            } else {
+                insert(neighbor); // La clave solo baja: insertOrDecrease alcanza
+            }
+        }
+    }
+
+    // Recalcula rhs de la celda y la deja en la lista abierta solo si quedó inconsistente
+    private void updateCell(int cell) {
+        if (cell != startCell) {
+            int best = INF;
+            if (!grid.isWall(cell)) {
+                for (int direction : ORDER_UP_DOWN_LEFT_RIGHT) {
+                    int neighbor = neighbor(grid, cell, direction);
+                    if (neighbor != MazeGrid.NO_CELL && !grid.isWall(neighbor) && g[neighbor] + 1 < best) {
+                        best = g[neighbor] + 1;
+                    }
+                }
+            }
+            rhs[cell] = best;
+        }
+        open.remove(cell);
+        if (g[cell] != rhs[cell]) {
+            insert(cell);
+        }
+    }
+
+    private void insert(int cell) {
+        int distance = Math.min(g[cell], rhs[cell]);
+        open.insertOrDecrease(cell, distance + estimate(cell), -distance);
+    }
+
+    // ¿La clave mínima de la lista abierta es menor que la clave del destino?
+    private boolean topBeforeEnd() {
+        int distance = Math.min(g[endCell], rhs[endCell]);
+        double endKey = distance >= INF ? Double.POSITIVE_INFINITY : distance + estimate(endCell);
+        double topKey = open.peekKey();
+        return topKey < endKey || (topKey == endKey && -open.peekTie() < distance);
+    }
+
+    // Desde el destino, siempre hacia el vecino con menor g (la distancia baja de a 1)
+    private void buildPath(IntList out) {
+        out.clear();
+        if (g[endCell] >= INF) {
+            return; // No hay camino
+        }
+        int current = endCell;
+        out.add(current);
+        while (current != startCell) {
+            int next = MazeGrid.NO_CELL;
+            for (int direction : ORDER_UP_DOWN_LEFT_RIGHT) {
+                int neighbor = neighbor(grid, current, direction);
+                if (neighbor != MazeGrid.NO_CELL && !grid.isWall(neighbor) &&
+                        (next == MazeGrid.NO_CELL || g[neighbor] < g[next])) {
+                    next = neighbor;
+                }
+            }
+            current = next;
+            out.add(current);
+        }
+        out.reverse();
+    }
+
+    private double estimate(int cell) {
+        return heuristic.estimate(Math.abs(cell / cols - endRow), Math.abs(cell % cols - endCol));
+    }
+}
@@ -0,0 +1,163 @@
+package src.solver.solverImpl;
+
+import src.models.MazeGrid;
+import src.solver.AbstractMazeSolver;
+import src.solver.engine.AtomicVisitedSet;
+import src.solver.engine.IntList;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+public class MazeSolverParallelBFS extends AbstractMazeSolver {
+
+    // BFS sincronizado por niveles: cada nivel del frente se reparte en bloques que se expanden
+    // en paralelo en un ForkJoinPool. Cada bloque escribe sus descubrimientos en su propio buffer
+    // y al terminar el nivel los buffers se concatenan (en orden de bloque) para formar el siguiente frente.
+    // Como un nivel se completa antes de empezar el siguiente, el camino tiene la misma longitud que con BFS.
+
+    // Celdas por bloque; los frentes más chicos se expanden en el hilo que llama (no compensa repartir)
+    private static final int DEFAULT_GRAIN = 4096;
+
+    private final ForkJoinPool pool;
+    private final int grain;
+    private final AtomicVisitedSet atomicVisited = new AtomicVisitedSet();
+    private IntList frontier = new IntList();
+    private IntList nextFrontier = new IntList();
+    private IntList[] buffers = new IntList[0];
+
+    public MazeSolverParallelBFS() {
+        this(ForkJoinPool.commonPool(), DEFAULT_GRAIN);
+    }
+
+    public MazeSolverParallelBFS(ForkJoinPool pool, int grain) {
+        if (grain <= 0) {
+            throw new IllegalArgumentException("Tamaño de bloque inválido: " + grain);
+        }
+        this.pool = pool;
+        this.grain = grain;
+    }
+
+    @Override
+    public String getName() {
+        return "BFS Paralelo";
+    }
+
+    @Override
+    protected void search(MazeGrid grid, int start, int end, IntList steps, IntList path) {
+        resetMetrics();
+        int size = grid.size();
+        atomicVisited.reset(size);
+        if (parent.length < size) {
+            parent = new int[size];
+        }
+        frontier.clear();
+        nextFrontier.clear();
+
+        parent[start] = MazeGrid.NO_CELL;
+        atomicVisited.addIfAbsent(start);
+        frontier.add(start);
+        if (steps != null) steps.add(start);
+
+        boolean found = start == end;
+        while (!found && !frontier.isEmpty()) {
+            trackFrontier(frontier.size());
+            expandLevel(grid);
+
+            // Métricas, progreso y cancelación una vez por nivel
+            nodesExpanded += frontier.size();
+            monitor.progress(nodesExpanded);
+            if (monitor.isCancelled()) {
+                throw new CancellationException("Búsqueda cancelada: " + getName());
+            }
+
+            found = atomicVisited.contains(end);
+            if (steps != null) {
+                for (int i = 0; i < nextFrontier.size(); i++) {
+                    int cell = nextFrontier.get(i);
+                    if (cell != start && cell != end) steps.add(cell);
+                }
+            }
+            IntList swap = frontier;
+            frontier = nextFrontier;
+            nextFrontier = swap;
+            nextFrontier.clear();
+        }
+
+        if (found && path != null) {
+            buildPath(end, path);
+        }
+    }
+
+    private void expandLevel(MazeGrid grid) {
+        int count = frontier.size();
+        if (count <= grain) {
+            expandRange(grid, 0, count, nextFrontier);
+            return;
+        }
+        int chunks = (count + grain - 1) / grain;
+        if (buffers.length < chunks) {
+            IntList[] grown = new IntList[chunks];
+            System.arraycopy(buffers, 0, grown, 0, buffers.length);
+            for (int i = buffers.length; i < chunks; i++) {
+                grown[i] = new IntList(grain);
+            }
+            buffers = grown;
+        }
+        pool.invoke(new LevelTask(grid, 0, chunks));
+        for (int i = 0; i < chunks; i++) {
+            nextFrontier.addAll(buffers[i]);
+        }
+    }
+
+    // Expande frontier[from, to) escribiendo los vecinos ganados en out.
+    // Solo el hilo que gana el CAS sobre el bitset escribe parent[vecino].
+    private void expandRange(MazeGrid grid, int from, int to, IntList out) {
+        int size = grid.size();
+        int cols = grid.getCols();
+        for (int i = from; i < to; i++) {
+            int current = frontier.get(i);
+            // Orden de exploración: Arriba, Abajo, Izquierda, Derecha
+            int col = current % cols;
+            if (current >= cols) visit(grid, current, current - cols, out);
+            if (current < size - cols) visit(grid, current, current + cols, out);
+            if (col > 0) visit(grid, current, current - 1, out);
+            if (col < cols - 1) visit(grid, current, current + 1, out);
+        }
+    }
+
+    private void visit(MazeGrid grid, int from, int neighbor, IntList out) {
+        if (!grid.isWall(neighbor) && atomicVisited.addIfAbsent(neighbor)) {
+            parent[neighbor] = from;
+            out.add(neighbor);
+        }
+    }
+
+    // Divide el rango de bloques en mitades hasta llegar a un bloque por tarea
+    private class LevelTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final MazeGrid grid;
+        private final int firstChunk;
+        private final int lastChunk;
+
+        LevelTask(MazeGrid grid, int firstChunk, int lastChunk) {
+            this.grid = grid;
+            this.firstChunk = firstChunk;
+            this.lastChunk = lastChunk;
+        }
+
+        @Override
+        protected void compute() {
+            if (lastChunk - firstChunk == 1) {
+                IntList out = buffers[firstChunk];
+                out.clear();
+                int from = firstChunk * grain;
+                expandRange(grid, from, Math.min(from + grain, frontier.size()), out);
+                return;
+            }
+            int middle = (firstChunk + lastChunk) >>> 1;
+            invokeAll(new LevelTask(grid, firstChunk, middle), new LevelTask(grid, middle, lastChunk));
+        }
+    }
+}
@@ -1,16 +1,24 @@
 package src.solver.solverImpl;
 
-import src.models.Cell;
-import src.models.CellState;
-import src.solver.MazeSolver;
+import src.models.MazeGrid;
+import src.solver.AbstractMazeSolver;
+import src.solver.ExecutionMode;
+import src.solver.engine.IntList;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-import java.util.Map;
-import java.util.HashMap;
+public class MazeSolverRecursivo extends AbstractMazeSolver {
 
-public class MazeSolverRecursivo implements MazeSolver {
+    private final ExecutionMode mode;
+
+    // Pila explícita de marcos (celda, siguiente dirección) para el modo EXPLICIT_STACK
+    private final IntList frames = new IntList();
+
+    public MazeSolverRecursivo() {
+        this(ExecutionMode.EXPLICIT_STACK);
+    }
+
+    public MazeSolverRecursivo(ExecutionMode mode) {
+        this.mode = mode;
+    }
 
     @Override
     public String getName() {
@@ -18,93 +26,136 @@ public class MazeSolverRecursivo implements MazeSolver {
     }
 
     // Para el método recursivo, usaremos variables de instancia para el camino
-    // y los pasos durante la recursión, y luego las devolveremos.
-    // Esto es un poco más complejo que en BFS/DFS iterativos.
-    private List<Cell> currentPath;
-    private List<Cell> currentVisitedSteps;
-    private Cell[][] tempMaze;
-    private Cell endCell;
+    // y los pasos durante la recursión.
+    private MazeGrid grid;
+    private int startCell;
+    private int endCell;
+    private IntList currentPath;
+    private IntList currentVisitedSteps;
+    private boolean startLogged;
+    private boolean endLogged;
     private boolean pathFound;
+    private int depth; // Profundidad de recursión actual (modo RECURSIVE)
 
-    @Override
-    public List<Cell> solve(Cell[][] maze, int startRow, int startCol, int endRow, int endCol) {
-        currentPath = new ArrayList<>();
-        currentVisitedSteps = new ArrayList<>(); // No se usa para solve(), pero por si acaso.
-        tempMaze = deepCopyMaze(maze);
-        endCell = tempMaze[endRow][endCol];
-        pathFound = false;
-
-        Cell startCell = tempMaze[startRow][startCol];
+    private final IntList pathScratch = new IntList();
 
-        // Llamada a la función recursiva
-        solveRecursiveHelper(startCell);
+    @Override
+    protected void search(MazeGrid grid, int start, int end, IntList steps, IntList path) {
+        prepare(grid);
+        this.grid = grid;
+        this.startCell = start;
+        this.endCell = end;
+        // El camino se construye durante la recursión aunque solo se pidan los pasos
+        this.currentPath = path != null ? path : pathScratch;
+        this.currentPath.clear();
+        this.currentVisitedSteps = steps;
+        this.startLogged = false;
+        this.endLogged = false;
+        this.pathFound = false;
+
+        if (mode == ExecutionMode.RECURSIVE) {
+            depth = 0;
+            solveRecursiveHelper(start);
+        } else {
+            solveWithExplicitStack(start);
+        }
 
-        // Si se encontró el camino, currentPath contiene el camino del inicio al fin
-        return currentPath;
+        this.grid = null;
+        this.currentPath = null;
+        this.currentVisitedSteps = null;
     }
 
-    @Override
-    public List<Cell> solveAndGetSteps(Cell[][] maze, int startRow, int startCol, int endRow, int endCol) {
-        currentPath = new ArrayList<>();
-        currentVisitedSteps = new ArrayList<>();
-        tempMaze = deepCopyMaze(maze);
-        endCell = tempMaze[endRow][endCol];
-        pathFound = false;
+    // Misma exploración que solveRecursiveHelper, pero cada llamada es un marco en `frames`
+    private void solveWithExplicitStack(int start) {
+        frames.clear();
+        enter(start);
+        while (!frames.isEmpty() && !pathFound) {
+            int top = frames.size() - 2;
+            int current = frames.get(top);
+            int cursor = frames.get(top + 1);
+            if (cursor < ORDER_CLOCKWISE.length) {
+                frames.set(top + 1, cursor + 1);
+                int neighbor = neighbor(grid, current, ORDER_CLOCKWISE[cursor]);
+                if (neighbor != MazeGrid.NO_CELL && !grid.isWall(neighbor) &&
+                        (neighbor == startCell || neighbor == endCell || !visited.contains(neighbor))) {
+                    enter(neighbor);
+                }
+            } else {
+                // Se agotaron los vecinos: "backtrack"
+                frames.removeLast();
+                frames.removeLast();
+                if (!currentPath.isEmpty() && currentPath.last() == current) {
+                    currentPath.removeLast();
+                }
+                recordBacktrack(currentVisitedSteps, current);
+            }
+        }
+    }
 
-        Cell startCell = tempMaze[startRow][startCol];
+    // Equivale a la entrada de solveRecursiveHelper; apila un marco si hay que explorar sus vecinos
+    private void enter(int current) {
+        if (grid.isWall(current)) {
+            return;
+        }
+        if (current != startCell && current != endCell) {
+            if (!visited.addIfAbsent(current)) {
+                return;
+            }
+            if (currentVisitedSteps != null) currentVisitedSteps.add(current);
+        } else if (current == startCell ? !startLogged : !endLogged) {
+            if (current == startCell) startLogged = true; else endLogged = true;
+            if (currentVisitedSteps != null) currentVisitedSteps.add(current);
+        }
 
-        // La llamada a la función recursiva también llenará currentVisitedSteps
-        solveRecursiveHelper(startCell);
+        currentPath.add(current);
 
-        // Devolvemos todos los pasos visitados.
-        // Si no se encontró un camino, solo contendrá la exploración.
-        return currentVisitedSteps;
+        if (current == endCell) {
+            pathFound = true;
+            return;
+        }
+        countExpansion();
+        frames.add(current);
+        frames.add(0);
+        trackFrontier(frames.size() / 2);
     }
 
     // Método auxiliar recursivo
-    private void solveRecursiveHelper(Cell current) {
+    private void solveRecursiveHelper(int current) {
         if (pathFound) { // Si ya encontramos el camino, detenemos más exploración recursiva
             return;
         }
 
-        if (current.getState() == CellState.WALL) {
+        if (grid.isWall(current)) {
             return; // No se puede pasar por una pared
         }
 
-        // Marcar como visitado en la copia temporal, si no es START/END
-        if (current.getState() != CellState.START && current.getState() != CellState.END) {
-            // Solo añadir si no ha sido visitado ya para evitar ciclos en visitedSteps para la animación
-            if (current.getState() != CellState.VISITED) {
-                current.setState(CellState.VISITED);
-                currentVisitedSteps.add(current); // Añadir a los pasos de exploración
-            } else {
-                return; // Ya visitado en este camino recursivo
-            }
-        } else {
-            // Si es START/END, solo lo añadimos a visitedSteps si no está ya
-            if (!currentVisitedSteps.contains(current)) {
-                currentVisitedSteps.add(current);
+        // START/END nunca se marcan como visitados; el resto solo se procesa una vez
+        if (current != startCell && current != endCell) {
+            if (!visited.addIfAbsent(current)) {
+                return; // Ya visitado en este recorrido
             }
+            if (currentVisitedSteps != null) currentVisitedSteps.add(current);
+        } else if (current == startCell ? !startLogged : !endLogged) {
+            if (current == startCell) startLogged = true; else endLogged = true;
+            if (currentVisitedSteps != null) currentVisitedSteps.add(current);
         }
 
-
         currentPath.add(current); // Añadir la celda actual al camino temporal
 
-        if (current.equals(endCell)) {
+        if (current == endCell) {
             pathFound = true;
             return; // Se encontró el destino
         }
-
-        // Obtener vecinos y explorar recursivamente
-        // El orden de los vecinos influye en el comportamiento de la "profundidad"
-        List<Cell> neighbors = getNeighbors(tempMaze, current);
-
-        for (Cell neighbor : neighbors) {
-            // Asegurarse de que no sea una pared y que no haya sido visitado en este recorrido
-            // (o si es START/END, que no se haya procesado como "visitado" en la copia)
-            if (neighbor.getState() != CellState.WALL &&
-                    (neighbor.getState() != CellState.VISITED || neighbor.equals(endCell))) { // Puede volver a un VISITADO si es el END
+        countExpansion();
+
+        // Orden de exploración: Arriba, Derecha, Abajo, Izquierda
+        for (int direction : ORDER_CLOCKWISE) {
+            int neighbor = neighbor(grid, current, direction);
+            if (neighbor != MazeGrid.NO_CELL && !grid.isWall(neighbor) &&
+                    (neighbor == startCell || neighbor == endCell || !visited.contains(neighbor))) {
+                trackFrontier(++depth);
                 solveRecursiveHelper(neighbor);
+                depth--;
                 if (pathFound) {
                     return; // Propagar la señal de que el camino fue encontrado
                 }
@@ -112,39 +163,9 @@ public class MazeSolverRecursivo implements MazeSolver {
         }
 
         // Si llegamos aquí y no se encontró el camino, hacemos "backtrack"
-        // Quitar la celda actual del camino si no condujo a una solución
-        if (!pathFound && !currentPath.isEmpty() && currentPath.get(currentPath.size() - 1).equals(current)) {
-            currentPath.remove(currentPath.size() - 1);
-        }
-    }
-
-
-    // Reutilizar métodos auxiliares
-    private List<Cell> getNeighbors(Cell[][] maze, Cell cell) {
-        List<Cell> neighbors = new ArrayList<>();
-        int r = cell.getRow();
-        int c = cell.getCol();
-        int rows = maze.length;
-        int cols = maze[0].length;
-
-        // Orden de exploración: Arriba, Derecha, Abajo, Izquierda (típico para recursivos)
-        if (r > 0) neighbors.add(maze[r - 1][c]);
-        if (c < cols - 1) neighbors.add(maze[r][c + 1]);
-        if (r < rows - 1) neighbors.add(maze[r + 1][c]);
-        if (c > 0) neighbors.add(maze[r][c - 1]);
-
-        return neighbors;
-    }
-
-    protected Cell[][] deepCopyMaze(Cell[][] originalMaze) {
-        int rows = originalMaze.length;
-        int cols = originalMaze[0].length;
-        Cell[][] copy = new Cell[rows][cols];
-        for (int r = 0; r < rows; r++) {
-            for (int c = 0; c < cols; c++) {
-                copy[r][c] = new Cell(originalMaze[r][c].getRow(), originalMaze[r][c].getCol(), originalMaze[r][c].getState());
-            }
+        if (!currentPath.isEmpty() && currentPath.last() == current) {
+            currentPath.removeLast();
         }
-        return copy;
+        recordBacktrack(currentVisitedSteps, current);
     }
-}
\ No newline at end of file
+}
@@ -1,84 +1,129 @@
 package src.solver.solverImpl;
 
-import src.models.Cell;
-import src.models.CellState;
-import src.solver.MazeSolver;
+import src.models.MazeGrid;
+import src.solver.AbstractMazeSolver;
+import src.solver.ExecutionMode;
+import src.solver.engine.IntList;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
-import java.util.HashMap;
-
-public class MazeSolverRecursivoCompleto implements MazeSolver {
+public class MazeSolverRecursivoCompleto extends AbstractMazeSolver {
 
     @Override
     public String getName() {
         return "Recursivo Completo";
     }
 
-    private List<Cell> finalPath;
-    private List<Cell> allVisitedSteps;
-    private Cell[][] tempMaze;
-    private Cell endCell;
-
-    @Override
-    public List<Cell> solve(Cell[][] maze, int startRow, int startCol, int endRow, int endCol) {
-        finalPath = new ArrayList<>();
-        allVisitedSteps = new ArrayList<>(); // No se usa para `solve` pero se inicializa
-        tempMaze = deepCopyMaze(maze);
-        endCell = tempMaze[endRow][endCol];
+    private final ExecutionMode mode;
 
-        Cell startCell = tempMaze[startRow][startCol];
+    // Pila explícita de marcos (celda, siguiente dirección) para el modo EXPLICIT_STACK
+    private final IntList frames = new IntList();
 
-        // Usamos un mapa para reconstruir el camino, similar a BFS/DFS iterativo
-        Map<Cell, Cell> cameFrom = new HashMap<>();
-        cameFrom.put(startCell, null); // El inicio no tiene predecesor
+    private MazeGrid grid;
+    private int endCell;
+    private IntList allVisitedSteps;
+    private int depth; // Profundidad de recursión actual (modo RECURSIVE)
 
-        boolean found = findPathDFS(startCell, cameFrom);
+    public MazeSolverRecursivoCompleto() {
+        this(ExecutionMode.EXPLICIT_STACK);
+    }
 
-        if (found) {
-            return reconstructPath(cameFrom, startCell, endCell);
-        }
-        return new ArrayList<>(); // No se encontró camino
+    public MazeSolverRecursivoCompleto(ExecutionMode mode) {
+        this.mode = mode;
     }
 
     @Override
-    public List<Cell> solveAndGetSteps(Cell[][] maze, int startRow, int startCol, int endRow, int endCol) {
-        finalPath = new ArrayList<>();
-        allVisitedSteps = new ArrayList<>();
-        tempMaze = deepCopyMaze(maze);
-        endCell = tempMaze[endRow][endCol];
-
-        Cell startCell = tempMaze[startRow][startCol];
-
-        Map<Cell, Cell> cameFrom = new HashMap<>(); // Para la reconstrucción del camino interno
-        cameFrom.put(startCell, null);
-
-        // Inicia la exploración y guarda los pasos
-        // La primera celda visitada es el inicio
-        allVisitedSteps.add(startCell);
-
-        findPathDFSAndCollectSteps(startCell, cameFrom);
+    protected void search(MazeGrid grid, int start, int end, IntList steps, IntList path) {
+        prepare(grid);
+        this.grid = grid;
+        this.endCell = end;
+        this.allVisitedSteps = steps;
+
+        // El overlay de visitados cumple el papel del mapa cameFrom
+        visited.add(start);
+        parent[start] = MazeGrid.NO_CELL; // El inicio no tiene predecesor
+        depth = 0;
+
+        boolean found;
+        if (steps != null) {
+            // Exploración completa: recorre todo lo alcanzable, aunque ya se haya llegado al fin.
+            // El predecesor del fin es el mismo que en la búsqueda que se detiene al encontrarlo.
+            steps.add(start); // La primera celda visitada es el inicio
+            if (mode == ExecutionMode.RECURSIVE) {
+                findPathDFSAndCollectSteps(start);
+            } else {
+                exploreWithExplicitStack(start, true);
+            }
+            found = start == end || visited.contains(end);
+        } else if (mode == ExecutionMode.RECURSIVE) {
+            found = findPathDFS(start);
+        } else {
+            found = exploreWithExplicitStack(start, false);
+        }
 
-        return allVisitedSteps;
+        if (found && path != null) {
+            buildPath(end, path);
+        }
+        this.grid = null;
+        this.allVisitedSteps = null;
     }
 
-    // Auxiliar recursivo para `solve` (encuentra el camino y lo reconstruye)
-    private boolean findPathDFS(Cell current, Map<Cell, Cell> cameFrom) {
-        if (current.equals(endCell)) {
-            return true; // Se encontró el destino
+    // Versión con pila explícita de findPathDFS (collectSteps = false) y de
+    // findPathDFSAndCollectSteps (collectSteps = true), con el mismo orden de visita
+    private boolean exploreWithExplicitStack(int start, boolean collectSteps) {
+        frames.clear();
+        if (start == endCell) {
+            return true;
+        }
+        frames.add(start);
+        frames.add(0);
+        countExpansion();
+        trackFrontier(1);
+        while (!frames.isEmpty()) {
+            int top = frames.size() - 2;
+            int current = frames.get(top);
+            int cursor = frames.get(top + 1);
+            if (cursor == ORDER_CLOCKWISE.length) {
+                frames.removeLast();
+                frames.removeLast();
+                continue;
+            }
+            frames.set(top + 1, cursor + 1);
+            int neighbor = neighbor(grid, current, ORDER_CLOCKWISE[cursor]);
+            if (neighbor != MazeGrid.NO_CELL && !grid.isWall(neighbor) && visited.addIfAbsent(neighbor)) {
+                parent[neighbor] = current;
+                if (neighbor == endCell) {
+                    if (!collectSteps) {
+                        return true;
+                    }
+                    continue; // El fin no se explora ni se registra como paso
+                }
+                if (collectSteps) {
+                    allVisitedSteps.add(neighbor);
+                }
+                frames.add(neighbor);
+                frames.add(0);
+                countExpansion();
+                trackFrontier(frames.size() / 2);
+            }
         }
+        return false;
+    }
 
-        // Marcar como visitado en la copia temporal para evitar ciclos
-        if (current.getState() != CellState.START && current.getState() != CellState.END) {
-            current.setState(CellState.VISITED);
+    // Auxiliar recursivo para `solve` (se detiene al encontrar el destino)
+    private boolean findPathDFS(int current) {
+        if (current == endCell) {
+            return true; // Se encontró el destino
         }
+        countExpansion();
 
-        for (Cell neighbor : getNeighbors(tempMaze, current)) {
-            if (neighbor.getState() != CellState.WALL &&
-                    !cameFrom.containsKey(neighbor)) { // No visitado aún en este recorrido (o es el inicio)
-                cameFrom.put(neighbor, current); // Registrar el predecesor
-                if (findPathDFS(neighbor, cameFrom)) {
+        // Orden de exploración: Arriba, Derecha, Abajo, Izquierda
+        for (int direction : ORDER_CLOCKWISE) {
+            int neighbor = neighbor(grid, current, direction);
+            if (neighbor != MazeGrid.NO_CELL && !grid.isWall(neighbor) && visited.addIfAbsent(neighbor)) {
+                parent[neighbor] = current; // Registrar el predecesor
+                trackFrontier(++depth);
+                boolean found = findPathDFS(neighbor);
+                depth--;
+                if (found) {
                     return true;
                 }
             }
@@ -87,79 +132,26 @@ public class MazeSolverRecursivoCompleto implements MazeSolver {
     }
 
     // Auxiliar recursivo para `solveAndGetSteps` (colecciona todos los pasos)
-    private void findPathDFSAndCollectSteps(Cell current, Map<Cell, Cell> cameFrom) {
-        if (current.equals(endCell)) {
+    private void findPathDFSAndCollectSteps(int current) {
+        if (current == endCell) {
             // Ya se encontró el final, no hay necesidad de explorar más allá desde esta rama
             return;
         }
 
-        // Marcar como visitado en la copia temporal si no es START/END, y añadir a pasos
-        // Importante: No añadir START/END si ya están como visitedSteps
-        if (current.getState() != CellState.START && current.getState() != CellState.END) {
-            if (current.getState() != CellState.VISITED) { // Evitar duplicados en allVisitedSteps si se revisita
-                current.setState(CellState.VISITED);
-                allVisitedSteps.add(current);
-            } else {
-                // Si ya fue visitado, pero llegamos por otro camino, no lo volvemos a añadir a allVisitedSteps,
-                // pero podemos continuar la exploración si es relevante (para DFS completo, sí lo es).
-                // Sin embargo, `cameFrom.containsKey` ya lo maneja al no volver a procesar.
-            }
-        }
-
-
-        List<Cell> neighbors = getNeighbors(tempMaze, current);
-        // Para comportamiento DFS, a veces se invierte el orden para simular la recursión
-        // Collections.reverse(neighbors);
-
-        for (Cell neighbor : neighbors) {
-            if (neighbor.getState() != CellState.WALL && !cameFrom.containsKey(neighbor)) {
-                cameFrom.put(neighbor, current);
-                findPathDFSAndCollectSteps(neighbor, cameFrom);
-            }
-        }
-    }
-
-
-    // Reutilizar métodos auxiliares
-    private List<Cell> getNeighbors(Cell[][] maze, Cell cell) {
-        List<Cell> neighbors = new ArrayList<>();
-        int r = cell.getRow();
-        int c = cell.getCol();
-        int rows = maze.length;
-        int cols = maze[0].length;
-
-        // Orden de exploración: Arriba, Derecha, Abajo, Izquierda
-        if (r > 0) neighbors.add(maze[r - 1][c]);
-        if (c < cols - 1) neighbors.add(maze[r][c + 1]);
-        if (r < rows - 1) neighbors.add(maze[r + 1][c]);
-        if (c > 0) neighbors.add(maze[r][c - 1]);
-
-        return neighbors;
-    }
-
-    protected List<Cell> reconstructPath(Map<Cell, Cell> cameFrom, Cell start, Cell end) {
-        List<Cell> path = new ArrayList<>();
-        Cell current = end;
-        while (current != null && cameFrom.containsKey(current) || current.equals(start)) {
-            path.add(0, current);
-            if (current.equals(start)) break;
-            current = cameFrom.get(current);
-        }
-        if (!path.contains(start) && start != null) {
-            path.add(0, start);
+        // Cada celda entra una sola vez (la marca el llamador), el inicio ya está registrado
+        if (parent[current] != MazeGrid.NO_CELL) {
+            allVisitedSteps.add(current);
         }
-        return path;
-    }
-
-    protected Cell[][] deepCopyMaze(Cell[][] originalMaze) {
-        int rows = originalMaze.length;
-        int cols = originalMaze[0].length;
-        Cell[][] copy = new Cell[rows][cols];
-        for (int r = 0; r < rows; r++) {
-            for (int c = 0; c < cols; c++) {
-                copy[r][c] = new Cell(originalMaze[r][c].getRow(), originalMaze[r][c].getCol(), originalMaze[r][c].getState());
+        countExpansion();
+
+        for (int direction : ORDER_CLOCKWISE) {
+            int neighbor = neighbor(grid, current, direction);
+            if (neighbor != MazeGrid.NO_CELL && !grid.isWall(neighbor) && visited.addIfAbsent(neighbor)) {
+                parent[neighbor] = current;
+                trackFrontier(++depth);
+                findPathDFSAndCollectSteps(neighbor);
+                depth--;
             }
         }
-        return copy;
     }
-}
\ No newline at end of file
+}
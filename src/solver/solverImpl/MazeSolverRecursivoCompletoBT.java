@@ -1,183 +1,132 @@
 package src.solver.solverImpl;
 
-import src.models.Cell;
-import src.models.CellState;
-import src.solver.MazeSolver;
+import src.models.MazeGrid;
+import src.solver.AbstractMazeSolver;
+import src.solver.ExecutionMode;
+import src.solver.engine.IntList;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-import java.util.Map;
-import java.util.HashMap;
-
-public class MazeSolverRecursivoCompletoBT implements MazeSolver {
+public class MazeSolverRecursivoCompletoBT extends AbstractMazeSolver {
 
     @Override
     public String getName() {
         return "Recursivo Completo BT";
     }
 
-    private List<Cell> finalPath; // Para solve()
-    private List<Cell> allVisitedSteps; // Para solveAndGetSteps()
-    private Cell[][] tempMaze;
-    private Cell endCell;
-    private boolean pathFound; // Para detener la búsqueda una vez que se encuentra un camino
-
-    @Override
-    public List<Cell> solve(Cell[][] maze, int startRow, int startCol, int endRow, int endCol) {
-        finalPath = new ArrayList<>();
-        allVisitedSteps = new ArrayList<>(); // No usado para `solve` directamente
-        tempMaze = deepCopyMaze(maze);
-        endCell = tempMaze[endRow][endCol];
-        pathFound = false;
+    private final ExecutionMode mode;
 
-        Cell startCell = tempMaze[startRow][startCol];
+    // Pila explícita de marcos (celda, siguiente dirección) para el modo EXPLICIT_STACK
+    private final IntList frames = new IntList();
 
-        // Usamos un mapa para reconstruir el camino con el backtracking
-        Map<Cell, Cell> cameFrom = new HashMap<>();
-        cameFrom.put(startCell, null);
+    private MazeGrid grid;
+    private int startCell;
+    private int endCell;
+    private IntList allVisitedSteps;
+    private boolean pathFound; // Para detener la búsqueda una vez que se encuentra un camino
+    private int depth; // Profundidad de recursión actual (modo RECURSIVE)
 
-        findPathDFSWithBacktracking(startCell, cameFrom);
+    public MazeSolverRecursivoCompletoBT() {
+        this(ExecutionMode.EXPLICIT_STACK);
+    }
 
-        if (pathFound) {
-            return reconstructPath(cameFrom, startCell, endCell);
-        }
-        return new ArrayList<>(); // No se encontró camino
+    public MazeSolverRecursivoCompletoBT(ExecutionMode mode) {
+        this.mode = mode;
     }
 
     @Override
-    public List<Cell> solveAndGetSteps(Cell[][] maze, int startRow, int startCol, int endRow, int endCol) {
-        finalPath = new ArrayList<>();
-        allVisitedSteps = new ArrayList<>();
-        tempMaze = deepCopyMaze(maze);
-        endCell = tempMaze[endRow][endCol];
-        pathFound = false;
-
-        Cell startCell = tempMaze[startRow][startCol];
-
-        Map<Cell, Cell> cameFrom = new HashMap<>();
-        cameFrom.put(startCell, null);
-
-        allVisitedSteps.add(startCell); // El inicio es el primer paso
-        findPathDFSWithBacktrackingAndCollectSteps(startCell, cameFrom);
+    protected void search(MazeGrid grid, int start, int end, IntList steps, IntList path) {
+        prepare(grid);
+        this.grid = grid;
+        this.startCell = start;
+        this.endCell = end;
+        this.allVisitedSteps = steps;
+        this.pathFound = false;
+
+        visited.add(start);
+        parent[start] = MazeGrid.NO_CELL;
+        if (steps != null) steps.add(start); // El inicio es el primer paso
+
+        if (mode == ExecutionMode.RECURSIVE) {
+            depth = 0;
+            findPathDFSWithBacktracking(start);
+        } else {
+            searchWithExplicitStack(start);
+        }
 
-        return allVisitedSteps;
+        if (pathFound && path != null) {
+            buildPath(end, path);
+        }
+        this.grid = null;
+        this.allVisitedSteps = null;
     }
 
-    // Auxiliar recursivo para `solve` con backtracking
-    private void findPathDFSWithBacktracking(Cell current, Map<Cell, Cell> cameFrom) {
-        if (pathFound) {
-            return; // Ya encontramos el camino, no sigas explorando
+    // Mismo recorrido que findPathDFSWithBacktracking, con los marcos en `frames`
+    private void searchWithExplicitStack(int start) {
+        frames.clear();
+        enter(start);
+        while (!frames.isEmpty() && !pathFound) {
+            int top = frames.size() - 2;
+            int current = frames.get(top);
+            int cursor = frames.get(top + 1);
+            if (cursor == ORDER_CLOCKWISE.length) {
+                frames.removeLast(); // Retroceder (backtracking)
+                frames.removeLast();
+                recordBacktrack(allVisitedSteps, current);
+                continue;
+            }
+            frames.set(top + 1, cursor + 1);
+            int neighbor = neighbor(grid, current, ORDER_CLOCKWISE[cursor]);
+            if (neighbor != MazeGrid.NO_CELL && !grid.isWall(neighbor) && visited.addIfAbsent(neighbor)) {
+                parent[neighbor] = current;
+                enter(neighbor);
+            }
         }
+    }
 
-        if (current.equals(endCell)) {
+    private void enter(int current) {
+        if (allVisitedSteps != null && current != startCell && current != endCell) {
+            allVisitedSteps.add(current);
+        }
+        if (current == endCell) {
             pathFound = true;
             return;
         }
-
-        // Marcar como visitado en la copia temporal
-        if (current.getState() != CellState.START && current.getState() != CellState.END) {
-            current.setState(CellState.VISITED);
-        }
-
-        List<Cell> neighbors = getNeighbors(tempMaze, current);
-        // Podríamos barajar los vecinos para un comportamiento más "aleatorio" o probar diferentes caminos
-        // Collections.shuffle(neighbors); // Descomentar si quieres un comportamiento de "exploración" más dinámico
-
-        for (Cell neighbor : neighbors) {
-            if (neighbor.getState() != CellState.WALL && !cameFrom.containsKey(neighbor)) {
-                cameFrom.put(neighbor, current); // Marcar como visitado y registrar predecesor
-                findPathDFSWithBacktracking(neighbor, cameFrom);
-                if (pathFound) {
-                    return; // Propagar la señal de que el camino fue encontrado
-                }
-            }
-        }
-
-        // Si esta celda no llevó a la solución, "desmarcarla" (backtracking)
-        // Esto es importante para algoritmos que retroceden y prueban otras ramas.
-        // Pero para la visualización de "pasos visitados", no solemos "despintar" la celda.
-        // Aquí, simplemente no la mantenemos en el "cameFrom" si no lleva a la solución.
-        // NO cambiamos el estado VISITED aquí para la animación, la celda *fue* visitada.
-        // cameFrom.remove(current); // Solo si queremos una búsqueda de múltiples caminos o la más corta
+        countExpansion();
+        frames.add(current);
+        frames.add(0);
+        trackFrontier(frames.size() / 2);
     }
 
-
-    // Auxiliar recursivo para `solveAndGetSteps` con backtracking y recolección de pasos
-    private void findPathDFSWithBacktrackingAndCollectSteps(Cell current, Map<Cell, Cell> cameFrom) {
+    // Auxiliar recursivo con backtracking; registra los pasos si se pidieron
+    private void findPathDFSWithBacktracking(int current) {
         if (pathFound) {
-            return;
+            return; // Ya encontramos el camino, no sigas explorando
         }
 
-        // Registrar la visita si no es START/END y no ha sido visitada previamente en allVisitedSteps
-        if (current.getState() != CellState.START && current.getState() != CellState.END) {
-            if (current.getState() != CellState.VISITED) {
-                current.setState(CellState.VISITED);
-                allVisitedSteps.add(current);
-            }
+        if (allVisitedSteps != null && current != startCell && current != endCell) {
+            allVisitedSteps.add(current);
         }
 
-        if (current.equals(endCell)) {
+        if (current == endCell) {
             pathFound = true;
             return;
         }
+        countExpansion();
 
-        List<Cell> neighbors = getNeighbors(tempMaze, current);
-        // Collections.shuffle(neighbors); // Opcional: para un comportamiento de exploración diferente
-
-        for (Cell neighbor : neighbors) {
-            if (neighbor.getState() != CellState.WALL && !cameFrom.containsKey(neighbor)) {
-                cameFrom.put(neighbor, current);
-                findPathDFSWithBacktrackingAndCollectSteps(neighbor, cameFrom);
+        // Orden de exploración: Arriba, Derecha, Abajo, Izquierda
+        for (int direction : ORDER_CLOCKWISE) {
+            int neighbor = neighbor(grid, current, direction);
+            if (neighbor != MazeGrid.NO_CELL && !grid.isWall(neighbor) && visited.addIfAbsent(neighbor)) {
+                parent[neighbor] = current; // Marcar como visitado y registrar predecesor
+                trackFrontier(++depth);
+                findPathDFSWithBacktracking(neighbor);
+                depth--;
                 if (pathFound) {
-                    return;
+                    return; // Propagar la señal de que el camino fue encontrado
                 }
             }
         }
-        // No necesitamos "desmarcar" VISITED en `tempMaze` ni remover de `allVisitedSteps` aquí,
-        // ya que `allVisitedSteps` registra el historial de exploración, no el camino activo.
-    }
-
-    // Reutilizar métodos auxiliares
-    private List<Cell> getNeighbors(Cell[][] maze, Cell cell) {
-        List<Cell> neighbors = new ArrayList<>();
-        int r = cell.getRow();
-        int c = cell.getCol();
-        int rows = maze.length;
-        int cols = maze[0].length;
-
-        // Orden de exploración: Arriba, Derecha, Abajo, Izquierda
-        if (r > 0) neighbors.add(maze[r - 1][c]);
-        if (c < cols - 1) neighbors.add(maze[r][c + 1]);
-        if (r < rows - 1) neighbors.add(maze[r + 1][c]);
-        if (c > 0) neighbors.add(maze[r][c - 1]);
-
-        return neighbors;
-    }
-
-    protected List<Cell> reconstructPath(Map<Cell, Cell> cameFrom, Cell start, Cell end) {
-        List<Cell> path = new ArrayList<>();
-        Cell current = end;
-        while (current != null && cameFrom.containsKey(current) || current.equals(start)) {
-            path.add(0, current);
-            if (current.equals(start)) break;
-            current = cameFrom.get(current);
-        }
-        if (!path.contains(start) && start != null) {
-            path.add(0, start);
-        }
-        return path;
-    }
-
-    protected Cell[][] deepCopyMaze(Cell[][] originalMaze) {
-        int rows = originalMaze.length;
-        int cols = originalMaze[0].length;
-        Cell[][] copy = new Cell[rows][cols];
-        for (int r = 0; r < rows; r++) {
-            for (int c = 0; c < cols; c++) {
-                copy[r][c] = new Cell(originalMaze[r][c].getRow(), originalMaze[r][c].getCol(), originalMaze[r][c].getState());
-            }
-        }
-        return copy;
+        // Si esta celda no llevó a la solución simplemente se retrocede; la celda *fue* visitada
+        // y sigue registrada en los pasos.
+        recordBacktrack(allVisitedSteps, current);
     }
-}
\ No newline at end of file
+}
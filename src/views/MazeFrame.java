@@ -1,12 +1,21 @@
 package src.views;
 
 import javax.swing.*;
+import javax.swing.filechooser.FileNameExtensionFilter;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
+import java.awt.event.InputEvent;
+import java.awt.event.KeyEvent;
+import java.io.File;
 import java.util.List;
+import java.util.Random;
 import src.controllers.MazeController;
+import src.controllers.PlaybackEngine;
+import src.dao.daoImpl.MazeDAOFile;
+import src.generator.GeneratorRegistry;
 import src.models.Cell;
+import src.solver.SolverRegistry;
 
 public class MazeFrame extends JFrame {
 
@@ -14,6 +23,11 @@ public class MazeFrame extends JFrame {
     private JComboBox<String> algorithmComboBox;
     private MazeController controller;
     private JButton toggleWallButton; // Declarar aquí para poder cambiar su texto/estado
+    private JLabel statusLabel; // Progreso de la búsqueda en segundo plano
+    private JButton pauseButton; // Pausa/Continuar de la reproducción
+    private JSlider seekSlider; // Posición dentro de la exploración
+    private JButton compareButton; // Deshabilitado mientras corre una comparación
+    private static final int SEEK_RESOLUTION = 1000; // Posiciones de la barra de reproducción
 
     public MazeFrame(int numRows, int numCols) {
         super("Maze Creator");
@@ -23,6 +37,14 @@ public class MazeFrame extends JFrame {
 
         initComponents(numRows, numCols);
         controller = new MazeController(mazePanel, this);
+        controller.setStatusListener(statusLabel::setText);
+        controller.setRaceListener(running -> compareButton.setEnabled(!running));
+        controller.setPlaybackListener((position, length) -> {
+            if (!seekSlider.getValueIsAdjusting()) {
+                seekSlider.setValue(length == 0 ? 0 : (int) ((long) position * SEEK_RESOLUTION / length));
+            }
+            pauseButton.setText(controller.isPlaying() || length == 0 ? "Pausa" : "Continuar");
+        });
     }
 
     private void initComponents(int numRows, int numCols) {
@@ -36,11 +58,14 @@ public class MazeFrame extends JFrame {
         add(topPanel, BorderLayout.NORTH);
 
         mazePanel = new MazePanel(numRows, numCols);
-        add(new JScrollPane(mazePanel), BorderLayout.CENTER);
+        JScrollPane scrollPane = new JScrollPane(mazePanel);
+        scrollPane.getVerticalScrollBar().setUnitIncrement(16);
+        scrollPane.getHorizontalScrollBar().setUnitIncrement(16);
+        add(scrollPane, BorderLayout.CENTER);
 
         JPanel bottomPanel = new JPanel(new FlowLayout(FlowLayout.CENTER, 10, 10));
         bottomPanel.add(new JLabel("Algoritmo:"));
-        String[] algorithms = {"BFS", "DFS", "Recursivo", "Recursivo Completo", "Recursivo Completo BT"};
+        String[] algorithms = SolverRegistry.getNames().toArray(new String[0]);
         algorithmComboBox = new JComboBox<>(algorithms);
         algorithmComboBox.setSelectedItem("BFS");
         bottomPanel.add(algorithmComboBox);
@@ -48,21 +73,93 @@ public class MazeFrame extends JFrame {
         JButton solveButton = new JButton("Resolver");
         JButton stepByStepButton = new JButton("Paso a paso");
         JButton clearButton = new JButton("Limpiar");
+        compareButton = new JButton("Comparar todos");
         bottomPanel.add(solveButton);
         bottomPanel.add(stepByStepButton);
         bottomPanel.add(clearButton);
-        add(bottomPanel, BorderLayout.SOUTH);
+        bottomPanel.add(compareButton);
+        // Controles de reproducción de la exploración
+        JPanel playbackPanel = new JPanel(new FlowLayout(FlowLayout.CENTER, 10, 0));
+        pauseButton = new JButton("Pausa");
+        JButton endButton = new JButton("Ir al final");
+        JComboBox<Integer> speedComboBox = new JComboBox<>(new Integer[]{10, 100, 1000, 10000, 100000, 1000000});
+        speedComboBox.setSelectedItem(PlaybackEngine.DEFAULT_SPEED);
+        seekSlider = new JSlider(0, SEEK_RESOLUTION, 0);
+        playbackPanel.add(pauseButton);
+        playbackPanel.add(endButton);
+        playbackPanel.add(new JLabel("Pasos/s:"));
+        playbackPanel.add(speedComboBox);
+        playbackPanel.add(seekSlider);
+
+        statusLabel = new JLabel(" ");
+        JPanel southPanel = new JPanel(new BorderLayout());
+        southPanel.add(playbackPanel, BorderLayout.NORTH);
+        southPanel.add(bottomPanel, BorderLayout.CENTER);
+        southPanel.add(statusLabel, BorderLayout.SOUTH);
+        add(southPanel, BorderLayout.SOUTH);
 
         JMenuBar menuBar = new JMenuBar();
         JMenu archivoMenu = new JMenu("Archivo");
+        JMenuItem abrirItem = new JMenuItem("Abrir laberinto...");
+        abrirItem.addActionListener(e -> {
+            JFileChooser chooser = createMazeFileChooser();
+            if (chooser.showOpenDialog(this) == JFileChooser.APPROVE_OPTION) {
+                controller.loadMaze(chooser.getSelectedFile());
+            }
+        });
+        JMenuItem guardarItem = new JMenuItem("Guardar laberinto...");
+        guardarItem.addActionListener(e -> {
+            JFileChooser chooser = createMazeFileChooser();
+            if (chooser.showSaveDialog(this) == JFileChooser.APPROVE_OPTION) {
+                File file = chooser.getSelectedFile();
+                if (!file.getName().endsWith(MazeDAOFile.EXTENSION)) {
+                    file = new File(file.getPath() + MazeDAOFile.EXTENSION);
+                }
+                controller.saveMaze(file);
+            }
+        });
         JMenuItem salirItem = new JMenuItem("Salir");
         salirItem.addActionListener(e -> System.exit(0));
+        archivoMenu.add(abrirItem);
+        archivoMenu.add(guardarItem);
+        archivoMenu.addSeparator();
         archivoMenu.add(salirItem);
+        JMenu generarMenu = new JMenu("Generar");
+        for (String generatorName : GeneratorRegistry.getNames()) {
+            JMenuItem generarItem = new JMenuItem(generatorName);
+            generarItem.addActionListener(e -> {
+                String seedText = JOptionPane.showInputDialog(this, "Semilla:", String.valueOf(new Random().nextInt(1_000_000)));
+                if (seedText == null) {
+                    return; // Cancelado
+                }
+                try {
+                    controller.generateMaze(generatorName, Long.parseLong(seedText.trim()));
+                } catch (NumberFormatException ex) {
+                    JOptionPane.showMessageDialog(this, "La semilla debe ser un número entero.", "Error de Generación", JOptionPane.ERROR_MESSAGE);
+                }
+            });
+            generarMenu.add(generarItem);
+        }
+        JMenu verMenu = new JMenu("Ver");
+        JCheckBoxMenuItem rasterItem = new JCheckBoxMenuItem("Modo imagen (laberintos grandes)");
+        rasterItem.addActionListener(e -> mazePanel.setRenderMode(rasterItem.isSelected()
+                ? MazePanel.Render_Mode.RASTER : MazePanel.Render_Mode.CELLS));
+        JMenuItem acercarItem = new JMenuItem("Acercar");
+        acercarItem.setAccelerator(KeyStroke.getKeyStroke(KeyEvent.VK_EQUALS, InputEvent.CTRL_DOWN_MASK));
+        acercarItem.addActionListener(e -> mazePanel.setCellSize(mazePanel.getCellSize() * 2));
+        JMenuItem alejarItem = new JMenuItem("Alejar");
+        alejarItem.setAccelerator(KeyStroke.getKeyStroke(KeyEvent.VK_MINUS, InputEvent.CTRL_DOWN_MASK));
+        alejarItem.addActionListener(e -> mazePanel.setCellSize(mazePanel.getCellSize() / 2));
+        verMenu.add(rasterItem);
+        verMenu.add(acercarItem);
+        verMenu.add(alejarItem);
         JMenu ayudaMenu = new JMenu("Ayuda");
         JMenuItem acercaDeItem = new JMenuItem("Acerca de...");
         acercaDeItem.addActionListener(e -> JOptionPane.showMessageDialog(this, "Creador de Laberintos v1.0", "Acerca de", JOptionPane.INFORMATION_MESSAGE));
         ayudaMenu.add(acercaDeItem);
         menuBar.add(archivoMenu);
+        menuBar.add(generarMenu);
+        menuBar.add(verMenu);
         menuBar.add(ayudaMenu);
         setJMenuBar(menuBar);
 
@@ -112,7 +209,10 @@ public class MazeFrame extends JFrame {
         stepByStepButton.addActionListener(e -> {
             mazePanel.setInteractionMode(MazePanel.Interaction_Mode.NONE); // Desactivar modo de dibujo
             toggleWallButton.setText("Toggle Wall"); // Restablecer el texto del botón
-            if (controller.currentAlgorithmVisitedSteps == null || controller.currentStepIndex == 0 || controller.currentStepIndex >= controller.currentAlgorithmVisitedSteps.size()) {
+            if (controller.isSolving()) {
+                return; // Todavía se está preparando la simulación en segundo plano
+            }
+            if (controller.currentAlgorithmTrace == null || controller.currentStepIndex == 0 || controller.currentStepIndex >= controller.currentAlgorithmTrace.getExplorationLength()) {
                 String selectedAlgorithm = (String) algorithmComboBox.getSelectedItem();
                 controller.prepareStepByStep(selectedAlgorithm);
             } else {
@@ -120,6 +220,28 @@ public class MazeFrame extends JFrame {
             }
         });
 
+        pauseButton.addActionListener(e -> {
+            controller.togglePlayback();
+            pauseButton.setText(controller.isPlaying() ? "Pausa" : "Continuar");
+        });
+
+        endButton.addActionListener(e -> controller.jumpToEnd());
+
+        speedComboBox.addActionListener(e -> controller.setPlaybackSpeed((Integer) speedComboBox.getSelectedItem()));
+
+        // La barra sigue a la reproducción; solo se busca cuando la mueve el usuario
+        seekSlider.addChangeListener(e -> {
+            if (seekSlider.getValueIsAdjusting()) {
+                controller.seekPlayback((double) seekSlider.getValue() / SEEK_RESOLUTION);
+            }
+        });
+
+        compareButton.addActionListener(e -> {
+            mazePanel.setInteractionMode(MazePanel.Interaction_Mode.NONE); // Desactivar modo de dibujo
+            toggleWallButton.setText("Toggle Wall");
+            controller.compareAllAlgorithms();
+        });
+
         clearButton.addActionListener(e -> {
             mazePanel.clearMaze();
             controller.resetSimulationState();
@@ -130,10 +252,19 @@ public class MazeFrame extends JFrame {
 
         algorithmComboBox.addActionListener(e -> {
             // Cuando se cambia el algoritmo, también se desactiva el modo de dibujo
+            // y se cancela la búsqueda que estuviera en curso
+            controller.cancelSolve();
             mazePanel.setInteractionMode(MazePanel.Interaction_Mode.NONE);
             toggleWallButton.setText("Toggle Wall");
             String selectedAlgorithm = (String) algorithmComboBox.getSelectedItem();
             System.out.println("Algoritmo seleccionado: " + selectedAlgorithm);
         });
     }
-}
\ No newline at end of file
+
+    private JFileChooser createMazeFileChooser() {
+        JFileChooser chooser = new JFileChooser();
+        chooser.setFileFilter(new FileNameExtensionFilter("Laberintos (*" + MazeDAOFile.EXTENSION + ")",
+                MazeDAOFile.EXTENSION.substring(1)));
+        return chooser;
+    }
+}
@@ -4,34 +4,61 @@ import javax.swing.*;
 import java.awt.*;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.BitSet;
 import java.util.List;
 import src.models.Cell;
 import src.models.CellState;
+import src.models.MazeFingerprint;
+import src.models.MazeGrid;
+import src.models.PathIndex;
 
 public class MazePanel extends JPanel {
 
     private int numRows;
     private int numCols;
-    private Cell[][] mazeData;
+
+    // Modelo del laberinto: paredes, inicio y fin viven en el grid compacto (un bit por celda,
+    // posiblemente un MappedMazeGrid recién abierto). La exploración pintada (visitadas y camino)
+    // se guarda aparte en dos BitSet que solo crecen hasta la celda más alta marcada.
+    // No hay un Cell por celda: abrir un laberinto de 100M de celdas no recorre ni copia nada.
+    private MazeGrid grid;
+    private final BitSet visitedCells = new BitSet();
+    private final BitSet pathCells = new BitSet();
 
     public enum Interaction_Mode {
         NONE, SET_START, SET_END, TOGGLE_WALL
     }
     Interaction_Mode currentMode = Interaction_Mode.NONE;
 
+    // CELLS: una celda = un rectángulo con borde. RASTER: las celdas visibles se vuelcan a una
+    // imagen con un píxel por celda que se escala al pintar (para laberintos enormes)
+    public enum Render_Mode {
+        CELLS, RASTER
+    }
+    private Render_Mode renderMode = Render_Mode.CELLS;
+    private BufferedImage raster; // Imagen reutilizable del modo RASTER (del tamaño de la zona visible)
+    private int cellSize = 30; // Tamaño de celda (zoom) en píxeles
+
+    // Repintado por regiones: los cambios de celda se acumulan en un rectángulo (en filas/columnas)
+    // mientras haya un lote abierto y se repintan juntos al cerrarlo
+    private int batchDepth;
+    private int dirtyMinRow, dirtyMinCol, dirtyMaxRow, dirtyMaxCol;
+    private boolean dirty;
+
+    // Huella de Zobrist de las paredes (MazeFingerprint), al día con cada cambio de celda.
+    // Tras cargar un laberinto se calcula recién cuando se pide por primera vez.
+    private long wallFingerprint;
+    private boolean fingerprintValid = true;
+
     public MazePanel(int rows, int cols) {
         this.numRows = rows;
         this.numCols = cols;
-        setPreferredSize(new Dimension(cols * 30, rows * 30));
+        this.grid = new MazeGrid(rows, cols);
+        setPreferredSize(new Dimension(cols * cellSize, rows * cellSize));
         setBackground(Color.WHITE);
 
-        this.mazeData = new Cell[rows][cols];
-        for (int r = 0; r < rows; r++) {
-            for (int c = 0; c < cols; c++) {
-                mazeData[r][c] = new Cell(r, c, CellState.EMPTY);
-            }
-        }
-
         addMouseListener(new MouseAdapter() {
             @Override
             public void mouseClicked(MouseEvent e) {
@@ -54,35 +81,52 @@ public class MazePanel extends JPanel {
 
         int cellWidth = getWidth() / numCols;
         int cellHeight = getHeight() / numRows;
+        if (cellWidth == 0 || cellHeight == 0) {
+            return;
+        }
 
-        for (int r = 0; r < numRows; r++) {
-            for (int c = 0; c < numCols; c++) {
+        // Solo se recorren las celdas que tocan la zona de recorte
+        int firstRow = 0, lastRow = numRows - 1, firstCol = 0, lastCol = numCols - 1;
+        Rectangle clip = g.getClipBounds();
+        if (clip != null) {
+            // El borde de cada celda se dibuja un píxel más allá de su ancho, por eso el -1
+            firstRow = Math.max(0, (clip.y - 1) / cellHeight);
+            firstCol = Math.max(0, (clip.x - 1) / cellWidth);
+            lastRow = Math.min(numRows - 1, (clip.y + clip.height) / cellHeight);
+            lastCol = Math.min(numCols - 1, (clip.x + clip.width) / cellWidth);
+        }
+        if (firstRow > lastRow || firstCol > lastCol) {
+            return;
+        }
+
+        if (renderMode == Render_Mode.RASTER) {
+            // Un píxel por celda visible, escalado sin suavizado
+            int width = lastCol - firstCol + 1;
+            int height = lastRow - firstRow + 1;
+            BufferedImage image = rasterFor(width, height);
+            int[] pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+            int stride = image.getWidth();
+            for (int r = 0; r < height; r++) {
+                int offset = r * stride;
+                int index = (firstRow + r) * numCols + firstCol;
+                for (int c = 0; c < width; c++) {
+                    pixels[offset + c] = colorFor(stateAt(index + c)).getRGB();
+                }
+            }
+            Graphics2D g2 = (Graphics2D) g;
+            g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+            g2.drawImage(image,
+                    firstCol * cellWidth, firstRow * cellHeight, (lastCol + 1) * cellWidth, (lastRow + 1) * cellHeight,
+                    0, 0, width, height, null);
+            return;
+        }
+
+        for (int r = firstRow; r <= lastRow; r++) {
+            for (int c = firstCol; c <= lastCol; c++) {
                 int x = c * cellWidth;
                 int y = r * cellHeight;
 
-                Color cellColor;
-                CellState state = mazeData[r][c].getState();
-                switch (state) {
-                    case WALL:
-                        cellColor = Color.BLACK;
-                        break;
-                    case START:
-                        cellColor = Color.GREEN;
-                        break;
-                    case END:
-                        cellColor = Color.RED;
-                        break;
-                    case VISITED:
-                        cellColor = Color.LIGHT_GRAY; // Gris para celdas visitadas en paso a paso
-                        break;
-                    case PATH:
-                        cellColor = Color.BLUE; // Azul para el camino final
-                        break;
-                    default:
-                        cellColor = Color.WHITE;
-                        break;
-                }
-                g.setColor(cellColor);
+                g.setColor(colorFor(stateAt(r * numCols + c)));
                 g.fillRect(x, y, cellWidth, cellHeight);
 
                 g.setColor(Color.BLACK);
@@ -91,27 +135,111 @@ public class MazePanel extends JPanel {
         }
     }
 
+    // La imagen solo crece; se reutiliza entre repintados
+    private BufferedImage rasterFor(int width, int height) {
+        if (raster == null || raster.getWidth() < width || raster.getHeight() < height) {
+            int w = Math.max(width, raster != null ? raster.getWidth() : 0);
+            int h = Math.max(height, raster != null ? raster.getHeight() : 0);
+            raster = new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+        }
+        return raster;
+    }
+
+    private static Color colorFor(CellState state) {
+        switch (state) {
+            case WALL:
+                return Color.BLACK;
+            case START:
+                return Color.GREEN;
+            case END:
+                return Color.RED;
+            case VISITED:
+                return Color.LIGHT_GRAY; // Gris para celdas visitadas en paso a paso
+            case PATH:
+                return Color.BLUE; // Azul para el camino final
+            default:
+                return Color.WHITE;
+        }
+    }
+
+    private CellState stateAt(int index) {
+        if (grid.isWall(index)) return CellState.WALL;
+        if (index == grid.getStart()) return CellState.START;
+        if (index == grid.getEnd()) return CellState.END;
+        if (pathCells.get(index)) return CellState.PATH;
+        if (visitedCells.get(index)) return CellState.VISITED;
+        return CellState.EMPTY;
+    }
+
+    public CellState getCellState(int row, int col) {
+        return stateAt(row * numCols + col);
+    }
+
+    // Único punto donde cambia el estado de una celda: mantiene al día el grid, las marcas de
+    // exploración y la huella de las paredes
+    private void setCellState(int row, int col, CellState state) {
+        int index = row * numCols + col;
+        boolean wall = state == CellState.WALL;
+        if (grid.isWall(index) != wall) {
+            if (fingerprintValid) {
+                wallFingerprint ^= MazeFingerprint.cellKey(index);
+            }
+            grid.setWall(index, wall); // En un MappedMazeGrid la primera edición pasa las paredes a memoria
+        }
+        if (index == grid.getStart() && state != CellState.START) grid.setStart(MazeGrid.NO_CELL);
+        if (index == grid.getEnd() && state != CellState.END) grid.setEnd(MazeGrid.NO_CELL);
+        if (state == CellState.START) grid.setStart(index);
+        if (state == CellState.END) grid.setEnd(index);
+        visitedCells.set(index, state == CellState.VISITED);
+        pathCells.set(index, state == CellState.PATH);
+    }
+
+    public void setRenderMode(Render_Mode mode) {
+        if (mode == renderMode) {
+            return;
+        }
+        renderMode = mode;
+        raster = null;
+        repaint();
+    }
+
+    public Render_Mode getRenderMode() {
+        return renderMode;
+    }
+
+    // Zoom: cambia el tamaño preferido para que el JScrollPane ajuste las barras
+    public void setCellSize(int size) {
+        cellSize = Math.max(1, Math.min(60, size));
+        setPreferredSize(new Dimension(numCols * cellSize, numRows * cellSize));
+        revalidate();
+        repaint();
+    }
+
+    public int getCellSize() {
+        return cellSize;
+    }
+
     private void handleCellClick(int row, int col) {
-        Cell clickedCell = mazeData[row][col];
+        CellState clickedState = getCellState(row, col);
 
         switch (currentMode) {
             case SET_START:
                 clearPreviousState(CellState.START);
-                clickedCell.setState(CellState.START);
+                setCellState(row, col, CellState.START);
                 currentMode = Interaction_Mode.NONE; // Vuelve a NONE después de establecer START
                 break;
             case SET_END:
                 clearPreviousState(CellState.END);
-                clickedCell.setState(CellState.END);
+                setCellState(row, col, CellState.END);
                 currentMode = Interaction_Mode.NONE; // Vuelve a NONE después de establecer END
                 break;
             case TOGGLE_WALL:
                 // Si el modo es TOGGLE_WALL, NO CAMBIA a NONE.
                 // Permite múltiples clics para alternar paredes.
-                if (clickedCell.getState() == CellState.WALL) {
-                    clickedCell.setState(CellState.EMPTY);
-                } else if (clickedCell.getState() == CellState.EMPTY) {
-                    clickedCell.setState(CellState.WALL);
+                if (clickedState == CellState.WALL) {
+                    setCellState(row, col, CellState.EMPTY);
+                } else if (clickedState == CellState.EMPTY) {
+                    setCellState(row, col, CellState.WALL);
                 }
                 break;
             case NONE:
@@ -119,18 +247,16 @@ public class MazePanel extends JPanel {
                 System.out.println("Modo de interacción no seleccionado.");
                 break;
         }
-        repaint();
+        repaintCell(row, col);
     }
 
 
+    // Solo puede haber un START y un END: el grid sabe dónde están
     private void clearPreviousState(CellState stateToClear) {
-        for (int r = 0; r < numRows; r++) {
-            for (int c = 0; c < numCols; c++) {
-                if (mazeData[r][c].getState() == stateToClear) {
-                    mazeData[r][c].setState(CellState.EMPTY);
-                    return;
-                }
-            }
+        int index = stateToClear == CellState.START ? grid.getStart() : grid.getEnd();
+        if (index != MazeGrid.NO_CELL) {
+            setCellState(index / numCols, index % numCols, CellState.EMPTY);
+            repaintCell(index / numCols, index % numCols);
         }
     }
 
@@ -139,51 +265,157 @@ public class MazePanel extends JPanel {
     }
 
     public void clearMaze() {
-        for (int r = 0; r < numRows; r++) {
-            for (int c = 0; c < numCols; c++) {
-                mazeData[r][c].setState(CellState.EMPTY);
-            }
-        }
+        grid = new MazeGrid(numRows, numCols);
+        visitedCells.clear();
+        pathCells.clear();
+        wallFingerprint = 0;
+        fingerprintValid = true;
         repaint();
     }
 
     public void resetPathAndVisitedStates() {
-        for (int r = 0; r < numRows; r++) {
-            for (int c = 0; c < numCols; c++) {
-                CellState currentState = mazeData[r][c].getState();
-                if (currentState == CellState.VISITED || currentState == CellState.PATH) {
-                    mazeData[r][c].setState(CellState.EMPTY);
-                }
+        beginBatch();
+        for (BitSet marks : new BitSet[]{visitedCells, pathCells}) {
+            for (int index = marks.nextSetBit(0); index >= 0; index = marks.nextSetBit(index + 1)) {
+                repaintCell(index / numCols, index % numCols);
             }
+            marks.clear();
         }
-        repaint();
+        endBatch();
     }
 
     public void drawPath(List<Cell> path) {
         if (path == null) return;
         // resetPathAndVisitedStates(); // Ya se llama en MazeController al inicio de la simulación
 
+        beginBatch();
         for (Cell cell : path) {
             if (cell.getState() != CellState.START && cell.getState() != CellState.END) {
-                mazeData[cell.getRow()][cell.getCol()].setState(CellState.PATH);
+                setCellState(cell.getRow(), cell.getCol(), CellState.PATH);
+                repaintCell(cell.getRow(), cell.getCol());
             }
         }
-        repaint();
+        endBatch();
+    }
+
+    // Igual que drawPath(List) pero recorriendo el índice de posiciones del camino
+    public void drawPath(PathIndex path) {
+        if (path == null) return;
+
+        beginBatch();
+        for (int index = path.nextIndex(0); index >= 0; index = path.nextIndex(index + 1)) {
+            int row = index / path.getCols();
+            int col = index % path.getCols();
+            CellState state = getCellState(row, col);
+            if (state != CellState.START && state != CellState.END) {
+                setCellState(row, col, CellState.PATH);
+                repaintCell(row, col);
+            }
+        }
+        endBatch();
     }
 
     public void updateCellState(int row, int col, CellState newState) {
         if (row >= 0 && row < numRows && col >= 0 && col < numCols) {
-            Cell currentCell = mazeData[row][col];
-            if (currentCell.getState() != CellState.START &&
-                    currentCell.getState() != CellState.END &&
-                    currentCell.getState() != CellState.WALL) { // No actualizar si ya es una pared
-                currentCell.setState(newState);
+            CellState currentState = getCellState(row, col);
+            if (currentState != CellState.START &&
+                    currentState != CellState.END &&
+                    currentState != CellState.WALL) { // No actualizar si ya es una pared
+                setCellState(row, col, newState);
             }
-            repaint();
+            repaintCell(row, col);
+        }
+    }
+
+    // Abre un lote: los cambios de celda hasta endBatch() se repintan en un único repaint recortado.
+    // Los lotes pueden anidarse; solo el cierre del más externo repinta.
+    public void beginBatch() {
+        batchDepth++;
+    }
+
+    public void endBatch() {
+        if (batchDepth == 0) {
+            return;
+        }
+        if (--batchDepth == 0 && dirty) {
+            dirty = false;
+            repaintCells(dirtyMinRow, dirtyMinCol, dirtyMaxRow, dirtyMaxCol);
         }
     }
 
+    // Marca una celda para repintar (de inmediato o al cerrar el lote abierto)
+    public void repaintCell(int row, int col) {
+        if (batchDepth == 0) {
+            repaintCells(row, col, row, col);
+            return;
+        }
+        if (!dirty) {
+            dirty = true;
+            dirtyMinRow = dirtyMaxRow = row;
+            dirtyMinCol = dirtyMaxCol = col;
+        } else {
+            dirtyMinRow = Math.min(dirtyMinRow, row);
+            dirtyMaxRow = Math.max(dirtyMaxRow, row);
+            dirtyMinCol = Math.min(dirtyMinCol, col);
+            dirtyMaxCol = Math.max(dirtyMaxCol, col);
+        }
+    }
+
+    private void repaintCells(int minRow, int minCol, int maxRow, int maxCol) {
+        int cellWidth = getWidth() / numCols;
+        int cellHeight = getHeight() / numRows;
+        // +1 para incluir el borde que drawRect pinta a la derecha y abajo de la celda
+        repaint(minCol * cellWidth, minRow * cellHeight,
+                (maxCol - minCol + 1) * cellWidth + 1, (maxRow - minRow + 1) * cellHeight + 1);
+    }
+
+    // Reemplaza el laberinto mostrado por el del grid (ej. uno cargado desde archivo). El panel se
+    // queda con el grid tal cual, sin convertirlo: O(1) aunque tenga cientos de millones de celdas.
+    public void loadGrid(MazeGrid grid) {
+        this.grid = grid;
+        numRows = grid.getRows();
+        numCols = grid.getCols();
+        visitedCells.clear();
+        pathCells.clear();
+        fingerprintValid = false;
+        batchDepth = 0;
+        dirty = false;
+        setPreferredSize(new Dimension(numCols * cellSize, numRows * cellSize));
+        revalidate();
+        repaint();
+    }
+
+    public int getNumRows() {
+        return numRows;
+    }
+
+    public int getNumCols() {
+        return numCols;
+    }
+
+    // Compatibilidad: arma un Cell por celda (O(celdas)); el resto del panel no los usa
     public Cell[][] getMazeData() {
-        return mazeData;
+        Cell[][] maze = new Cell[numRows][numCols];
+        for (int r = 0; r < numRows; r++) {
+            for (int c = 0; c < numCols; c++) {
+                maze[r][c] = new Cell(r, c, getCellState(r, c));
+            }
+        }
+        return maze;
+    }
+
+    // Cambia solo cuando cambian las paredes (no con START/END ni con la exploración pintada)
+    public long getWallFingerprint() {
+        if (!fingerprintValid) {
+            wallFingerprint = MazeFingerprint.of(grid);
+            fingerprintValid = true;
+        }
+        return wallFingerprint;
+    }
+
+    // Instantánea compacta del laberinto para los solvers (una copia: los hilos de fondo nunca
+    // ven las ediciones posteriores del panel)
+    public MazeGrid getMazeGrid() {
+        return grid.copy();
     }
-}
\ No newline at end of file
+}
@@ -1,6 +1,10 @@
 package src.views;
 
+import src.models.AlgorithmResult;
+import src.models.SolveResults;
+
 import javax.swing.*;
+import javax.swing.table.DefaultTableModel;
 import java.awt.*;
 
 public class ResultadosDialog extends JDialog {
@@ -23,4 +27,39 @@ public class ResultadosDialog extends JDialog {
         buttonPanel.add(closeButton);
         add(buttonPanel, BorderLayout.SOUTH);
     }
-}
\ No newline at end of file
+
+    // Tabla comparativa (modo "Comparar todos")
+    public ResultadosDialog(JFrame parent, String title, SolveResults results) {
+        super(parent, title, true);
+        setLayout(new BorderLayout());
+        setSize(800, 350);
+        setLocationRelativeTo(parent);
+
+        String[] columns = {"Algoritmo", "Camino", "Nodos expandidos", "Frontera máx.", "Tiempo (ms)", "Bytes asignados"};
+        DefaultTableModel model = new DefaultTableModel(columns, 0) {
+            @Override
+            public boolean isCellEditable(int row, int column) {
+                return false;
+            }
+        };
+        for (AlgorithmResult result : results.getResults()) {
+            model.addRow(new Object[]{
+                    result.getAlgorithmName(),
+                    result.getPathLength(),
+                    result.getNodesExpanded(),
+                    result.getPeakFrontier(),
+                    String.format("%.3f", result.getExecutionTimeNanos() / 1e6),
+                    result.getBytesAllocated()
+            });
+        }
+        JTable table = new JTable(model);
+        table.setAutoCreateRowSorter(true);
+        add(new JScrollPane(table), BorderLayout.CENTER);
+
+        JButton closeButton = new JButton("Cerrar");
+        closeButton.addActionListener(e -> dispose());
+        JPanel buttonPanel = new JPanel();
+        buttonPanel.add(closeButton);
+        add(buttonPanel, BorderLayout.SOUTH);
+    }
+}